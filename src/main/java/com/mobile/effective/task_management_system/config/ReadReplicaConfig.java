@@ -0,0 +1,146 @@
+package com.mobile.effective.task_management_system.config;
+
+import com.mobile.effective.task_management_system.datasource.ReadYourWritesTracker;
+import com.mobile.effective.task_management_system.datasource.ReplicaReadJpaDialect;
+import com.mobile.effective.task_management_system.datasource.ReplicaRoutingDataSource;
+import com.mobile.effective.task_management_system.datasource.WriteTrackingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration splitting reads from writes when read replicas are configured in
+ * {@code datasource.replicas.urls}. Without replicas, the single data source of
+ * {@code spring.datasource} is used for everything.
+ * <p>
+ * The data source handed to JPA and JDBC is a lazy proxy: a transaction takes a physical connection
+ * only at its first statement, once it is known whether it is read-only. Read-only transactions, such as
+ * those of the {@code @Transactional(readOnly = true)} service methods, are then served by
+ * {@link ReplicaRoutingDataSource}; all other work goes to the primary. Entities loaded by read-only
+ * transactions are kept out of the second-level cache by {@link ReplicaReadJpaDialect}, so a lagging
+ * replica cannot put stale rows back into it.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replicas.urls")
+public class ReadReplicaConfig {
+
+    /**
+     * Provides the connection pool of the primary, configured by {@code spring.datasource}.
+     *
+     * @param properties the properties of {@code spring.datasource}
+     * @return the primary connection pool
+     */
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Provides the tracker of sessions whose reads stay on the primary after a write.
+     *
+     * @param window how long the reads of a session stay on the primary after its last write
+     * @return the tracker
+     */
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replicas.read-your-writes-window:10s}") Duration window) {
+        return new ReadYourWritesTracker(window, 100_000);
+    }
+
+    /**
+     * Provides the data source of read-only transactions, with one connection pool per replica.
+     * Replicas share the credentials of the primary unless their own are set.
+     *
+     * @param properties    the properties of {@code spring.datasource}
+     * @param primary       the primary connection pool, used when no replica may serve a read
+     * @param tracker       the tracker of sessions that have written recently
+     * @param urls          the JDBC URLs of the replicas
+     * @param username      the user name on the replicas
+     * @param password      the password on the replicas
+     * @param poolSize      the maximum number of connections per replica
+     * @param maxLag        the maximum replication lag of a replica that serves reads
+     * @param meterRegistry the registry to which the routing metrics are bound
+     * @return the data source of read-only transactions
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaDataSource(DataSourceProperties properties, HikariDataSource primary,
+                                                      ReadYourWritesTracker tracker,
+                                                      @Value("${datasource.replicas.urls}") List<String> urls,
+                                                      @Value("${datasource.replicas.username:${spring.datasource.username}}") String username,
+                                                      @Value("${datasource.replicas.password:${spring.datasource.password}}") String password,
+                                                      @Value("${datasource.replicas.pool-size:10}") int poolSize,
+                                                      @Value("${datasource.replicas.max-lag:5s}") Duration maxLag,
+                                                      MeterRegistry meterRegistry) {
+        List<DataSource> replicas = new ArrayList<>(urls.size());
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(urls.get(i))
+                    .username(username)
+                    .password(password)
+                    .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, maxLag, tracker, meterRegistry);
+    }
+
+    /**
+     * Installs {@link ReplicaReadJpaDialect} on the entity manager factory before it is initialized,
+     * in place of the dialect of the JPA vendor adapter.
+     *
+     * @return the post-processor setting the dialect
+     */
+    @Bean
+    public static BeanPostProcessor replicaReadJpaDialectPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof AbstractEntityManagerFactoryBean entityManagerFactory) {
+                    entityManagerFactory.setJpaDialect(new ReplicaReadJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Provides the data source used by JPA, JDBC and Liquibase, routing each transaction by its read-only flag.
+     *
+     * @param primary the primary connection pool
+     * @param replica the data source of read-only transactions
+     * @param tracker the tracker to which committed writes are reported
+     * @return the routing data source
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primary, ReplicaRoutingDataSource replica,
+                                 ReadYourWritesTracker tracker) {
+        LazyConnectionDataSourceProxy dataSource =
+                new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary, tracker));
+        dataSource.setReadOnlyDataSource(replica);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+}
@@ -0,0 +1,13 @@
+package com.mobile.effective.task_management_system.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Configuration class enabling scheduled background jobs,
+ * such as the periodic rebuild of the revoked token filter.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
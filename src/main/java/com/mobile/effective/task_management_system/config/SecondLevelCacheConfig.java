@@ -0,0 +1,96 @@
+package com.mobile.effective.task_management_system.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Configuration of the Hibernate second-level cache.
+ * Entities are cached in-process by Caffeine through its JCache provider. Every region is created here
+ * with its own size bound and time to live, and Hibernate is told to fail on any region not created,
+ * so an unbounded default cache can never appear. Hibernate statistics are enabled, which exposes
+ * per-region hit, miss and put counts as metrics; evictions are exposed by the JCache statistics.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    /**
+     * Region of the {@code User} entity.
+     */
+    public static final String USER_REGION = "user";
+
+    /**
+     * Region resolving user emails to user IDs.
+     */
+    public static final String USER_EMAIL_REGION = "user-email";
+
+    /**
+     * Region of the {@code Task} entity.
+     */
+    public static final String TASK_REGION = "task";
+
+    /**
+     * Provides the JCache manager holding the second-level cache regions.
+     *
+     * @param userMaxSize   the maximum number of cached users
+     * @param userTtl       how long a user stays cached after it was written
+     * @param taskMaxSize   the maximum number of cached tasks
+     * @param taskTtl       how long a task stays cached after it was written
+     * @param meterRegistry the registry to which the statistics of each region are bound
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${hibernate-cache.user.max-size:10000}") long userMaxSize,
+                                              @Value("${hibernate-cache.user.ttl:10m}") Duration userTtl,
+                                              @Value("${hibernate-cache.task.max-size:50000}") long taskMaxSize,
+                                              @Value("${hibernate-cache.task.ttl:5m}") Duration taskTtl,
+                                              MeterRegistry meterRegistry) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager();
+        createRegion(cacheManager, USER_REGION, userMaxSize, userTtl, meterRegistry);
+        createRegion(cacheManager, USER_EMAIL_REGION, userMaxSize, userTtl, meterRegistry);
+        createRegion(cacheManager, TASK_REGION, taskMaxSize, taskTtl, meterRegistry);
+        return cacheManager;
+    }
+
+    /**
+     * Enables the second-level cache on the regions of the given cache manager, along with statistics.
+     *
+     * @param hibernateCacheManager the cache manager holding the regions
+     * @return the customizer of the Hibernate properties
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maxSize, Duration ttl,
+                                     MeterRegistry meterRegistry) {
+        if (cacheManager.getCache(region) != null) {
+            cacheManager.destroyCache(region);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        configuration.setStatisticsEnabled(true);
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration));
+    }
+}
@@ -1,7 +1,9 @@
 package com.mobile.effective.task_management_system.config;
 
+import com.mobile.effective.task_management_system.jwt.JwtAuthenticationCache;
 import com.mobile.effective.task_management_system.jwt.JwtTokenFilter;
 import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,14 +30,21 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Constructs an instance of SecurityConfig.
      *
-     * @param jwtTokenProvider the JWT token provider used for authentication
+     * @param jwtTokenProvider       the JWT token provider used for authentication
+     * @param jwtAuthenticationCache the cache of authentications resolved from verified tokens
+     * @param tokenRevocationService the service used to reject revoked tokens
      */
-    public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
+    public SecurityConfig(JwtTokenProvider jwtTokenProvider, JwtAuthenticationCache jwtAuthenticationCache,
+                          TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtAuthenticationCache = jwtAuthenticationCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
@@ -59,12 +68,14 @@ public class SecurityConfig {
      */
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        JwtTokenFilter jwtTokenFilter = new JwtTokenFilter(jwtTokenProvider);
+        JwtTokenFilter jwtTokenFilter = new JwtTokenFilter(jwtTokenProvider, jwtAuthenticationCache, tokenRevocationService);
 
         http
                 .csrf().disable()  // Disable CSRF protection for simplicity
                 .authorizeRequests()
                 .requestMatchers("/api/auth/**").permitAll()  // Permit all requests to authentication endpoints
+                // Bulk registration hashes up to users.bulk.max-size passwords per request, so it is not open to anonymous callers
+                .requestMatchers("/api/users/register/bulk").authenticated()
                 // Allow access to Swagger UI and related resources
                 .requestMatchers("/swagger-ui.html", "/api/tasks/**", "/api/comments/**", "/api/users/**", "/v3/api-docs/**", "/swagger-resources/**", "/webjars/**", "/swagger-ui/**").permitAll()
                 .anyRequest().authenticated()  // Require authentication for all other requests
@@ -0,0 +1,94 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.dto.LoginRequest;
+import com.mobile.effective.task_management_system.dto.TokenResponse;
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.jwt.VerifiedToken;
+import com.mobile.effective.task_management_system.service.AuthService;
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller for authentication operations.
+ */
+@RestController
+@RequestMapping("/api/auth")
+public class AuthController {
+
+    private final AuthService authService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Constructs an AuthController with the specified services.
+     *
+     * @param authService            the authentication service to use
+     * @param jwtTokenProvider       the JWT token provider to use
+     * @param tokenRevocationService the token revocation service to use
+     */
+    @Autowired
+    public AuthController(AuthService authService, JwtTokenProvider jwtTokenProvider,
+                          TokenRevocationService tokenRevocationService) {
+        this.authService = authService;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.tokenRevocationService = tokenRevocationService;
+    }
+
+    /**
+     * Logs in with the given credentials and issues a JWT token.
+     * The password check runs asynchronously on the bounded password hashing executor;
+     * when it is saturated the request is rejected with 503 and a Retry-After header.
+     *
+     * @param loginRequest the credentials of the user
+     * @return the issued token
+     */
+    @Operation(summary = "Вход в систему", description = "Проверяет email и пароль и возвращает JWT-токен")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Токен успешно выдан"),
+            @ApiResponse(responseCode = "400", description = "Ошибка валидации данных"),
+            @ApiResponse(responseCode = "401", description = "Неверный email или пароль"),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен, повторите запрос позже")
+    })
+    @PostMapping("/login")
+    public CompletableFuture<ResponseEntity<TokenResponse>> login(@RequestBody @Valid LoginRequest loginRequest) {
+        return authService.login(loginRequest.getEmail(), loginRequest.getPassword())
+                .thenApply(token -> ResponseEntity.ok(new TokenResponse(token)));
+    }
+
+    /**
+     * Logs out by revoking the bearer token sent with the request.
+     *
+     * @param request the HTTP request carrying the token in the Authorization header
+     * @return a response indicating the outcome of the logout
+     */
+    @Operation(summary = "Выход из системы", description = "Отзывает JWT-токен, переданный в заголовке Authorization")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Токен успешно отозван"),
+            @ApiResponse(responseCode = "400", description = "Токен не может быть отозван"),
+            @ApiResponse(responseCode = "401", description = "Токен отсутствует или недействителен")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(HttpServletRequest request) {
+        String token = jwtTokenProvider.resolveToken(request);
+        VerifiedToken verifiedToken = token != null ? jwtTokenProvider.verifyToken(token) : null;
+        if (verifiedToken == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        if (verifiedToken.getId() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        tokenRevocationService.revoke(verifiedToken);
+        return ResponseEntity.noContent().build();
+    }
+}
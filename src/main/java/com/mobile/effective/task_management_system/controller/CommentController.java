@@ -1,5 +1,6 @@
 package com.mobile.effective.task_management_system.controller;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
 import com.mobile.effective.task_management_system.model.Comment;
 import com.mobile.effective.task_management_system.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -8,12 +9,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * Controller for managing comments.
  */
@@ -53,21 +53,29 @@ public class CommentController {
     }
 
     /**
-     * Retrieves comments by the given task ID.
+     * Retrieves comments by the given task ID, one page after the given cursor.
      *
-     * @param taskId the ID of the task
-     * @return a list of comments associated with the task
+     * @param taskId    the ID of the task
+     * @param after     the cursor returned with the previous page
+     * @param limit     the maximum number of comments on the page
+     * @param direction ASC for oldest first, DESC for newest first
+     * @return a page of comments associated with the task, with the cursor of the next page
      */
-    @Operation(summary = "Получает комментарии по ID задачи", description = "Возвращает список комментариев для указанной задачи")
+    @Operation(summary = "Получает комментарии по ID задачи",
+            description = "Возвращает страницу комментариев для указанной задачи после указанного курсора")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "Список комментариев успешно получен"),
-            @ApiResponse(responseCode = "400", description = "Неверный ID задачи")
+            @ApiResponse(responseCode = "200", description = "Страница комментариев успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Неверный ID задачи, курсор или размер страницы")
     })
     @GetMapping("/task/{taskId}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<Comment>> getCommentsByTaskId(
-            @Parameter(description = "ID задачи для получения комментариев") @PathVariable Long taskId) {
-        List<Comment> comments = commentService.getCommentByTaskId(taskId);
+    public ResponseEntity<CursorPage<Comment>> getCommentsByTaskId(
+            @Parameter(description = "ID задачи для получения комментариев") @PathVariable Long taskId,
+            @Parameter(description = "Курсор, полученный с предыдущей страницей") @RequestParam(required = false) String after,
+            @Parameter(description = "Размер страницы") @RequestParam(defaultValue = "20") int limit,
+            @Parameter(description = "ASC - сначала старые, DESC - сначала новые")
+            @RequestParam(defaultValue = "ASC") Sort.Direction direction) {
+        CursorPage<Comment> comments = commentService.getCommentsByTaskId(taskId, direction, after, limit);
         return ResponseEntity.ok(comments);
     }
 }
@@ -0,0 +1,74 @@
+package com.mobile.effective.task_management_system.controller;
+
+/**
+ * Builds and compares the strong ETags derived from entity versions.
+ * An ETag is the version in quotes, for example {@code "3"}.
+ */
+final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    /**
+     * Returns the strong ETag of the given version.
+     *
+     * @param version the version of the entity
+     * @return the ETag
+     */
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Checks an {@code If-None-Match} header against the current ETag using weak comparison.
+     *
+     * @param ifNoneMatch the header value, or null if the header is absent
+     * @param etag        the current ETag
+     * @return true if the header names the current ETag or is {@code *}
+     */
+    static boolean noneMatchFails(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String trimmed = tag.trim();
+            if (trimmed.equals(ANY)) {
+                return true;
+            }
+            if (trimmed.startsWith(WEAK_PREFIX)) {
+                trimmed = trimmed.substring(WEAK_PREFIX.length());
+            }
+            if (trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Extracts the version expected by an {@code If-Match} header.
+     * Only a single strong ETag is supported. Weak ETags, lists and malformed values never match
+     * under the strong comparison required for {@code If-Match}, so they are reported as a version
+     * no entity can have.
+     *
+     * @param ifMatch the header value, or null if the header is absent
+     * @return the expected version, or null if any version is accepted
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY)) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
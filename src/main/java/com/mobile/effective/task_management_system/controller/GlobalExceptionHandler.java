@@ -0,0 +1,79 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.dto.ErrorResponse;
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.exception.TaskVersionMismatchException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Translates exceptions thrown by the controllers into HTTP responses.
+ */
+@RestControllerAdvice
+public class GlobalExceptionHandler {
+
+    /**
+     * Handles requests rejected because a bounded resource is saturated.
+     *
+     * @param e the exception
+     * @return a 503 response with a Retry-After header
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleServiceOverloaded(ServiceOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    /**
+     * Handles failed logins.
+     *
+     * @param e the exception
+     * @return a 401 response
+     */
+    @ExceptionHandler(BadCredentialsException.class)
+    public ResponseEntity<ErrorResponse> handleBadCredentials(BadCredentialsException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponse(e.getMessage()));
+    }
+
+    /**
+     * Handles requests with arguments rejected by the services.
+     *
+     * @param e the exception
+     * @return a 400 response
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(new ErrorResponse(e.getMessage()));
+    }
+
+    /**
+     * Handles conditional updates whose ETag no longer names the current version.
+     *
+     * @param e the exception
+     * @return a 412 response with the current ETag
+     */
+    @ExceptionHandler(TaskVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleTaskVersionMismatch(TaskVersionMismatchException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .eTag(EntityTags.of(e.getCurrentVersion()))
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    /**
+     * Handles updates that lost the race against a concurrent update of the same entity.
+     *
+     * @param e the exception
+     * @return a 409 response
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(new ErrorResponse("The entity has been modified concurrently, fetch it again and retry"));
+    }
+}
@@ -0,0 +1,121 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.dto.ImportJobStatus;
+import com.mobile.effective.task_management_system.importing.ImportFormat;
+import com.mobile.effective.task_management_system.service.TaskImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+
+/**
+ * Controller for bulk imports of tasks and comments from files.
+ * Uploads are accepted immediately and imported in the background; the returned job is polled for progress.
+ */
+@RestController
+@RequestMapping("/api/imports")
+public class ImportController {
+
+    private final TaskImportService taskImportService;
+
+    /**
+     * Constructs an ImportController with the specified TaskImportService.
+     *
+     * @param taskImportService the import service to use
+     */
+    @Autowired
+    public ImportController(TaskImportService taskImportService) {
+        this.taskImportService = taskImportService;
+    }
+
+    /**
+     * Starts an import of tasks.
+     * Columns: ref, title, description, status, priority, author_email, assignee_email.
+     *
+     * @param file   the file to import
+     * @param format the format of the file
+     * @return the status of the queued job
+     * @throws IOException if the upload cannot be read
+     */
+    @Operation(summary = "Импортирует задачи из файла",
+            description = "Принимает CSV или NDJSON со столбцами ref, title, description, status, priority, " +
+                    "author_email, assignee_email и запускает импорт в фоне")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Файл принят, импорт поставлен в очередь"),
+            @ApiResponse(responseCode = "503", description = "Слишком много импортов, повторите позже")
+    })
+    @PostMapping(value = "/tasks", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ImportJobStatus> importTasks(
+            @Parameter(description = "Файл импорта") @RequestParam MultipartFile file,
+            @Parameter(description = "Формат файла") @RequestParam(defaultValue = "CSV") ImportFormat format)
+            throws IOException {
+        return submit(ImportJobStatus.Type.TASKS, file, format);
+    }
+
+    /**
+     * Starts an import of comments.
+     * Columns: task_ref, content, author_email; task_ref is the ref of a previously imported task.
+     *
+     * @param file   the file to import
+     * @param format the format of the file
+     * @return the status of the queued job
+     * @throws IOException if the upload cannot be read
+     */
+    @Operation(summary = "Импортирует комментарии из файла",
+            description = "Принимает CSV или NDJSON со столбцами task_ref, content, author_email, где task_ref — " +
+                    "внешний ID ранее импортированной задачи, и запускает импорт в фоне")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Файл принят, импорт поставлен в очередь"),
+            @ApiResponse(responseCode = "503", description = "Слишком много импортов, повторите позже")
+    })
+    @PostMapping(value = "/comments", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ImportJobStatus> importComments(
+            @Parameter(description = "Файл импорта") @RequestParam MultipartFile file,
+            @Parameter(description = "Формат файла") @RequestParam(defaultValue = "CSV") ImportFormat format)
+            throws IOException {
+        return submit(ImportJobStatus.Type.COMMENTS, file, format);
+    }
+
+    /**
+     * Retrieves the progress of an import.
+     *
+     * @param id the ID of the job
+     * @return the status of the job if found, or 404 if the job is unknown or has expired
+     */
+    @Operation(summary = "Получает состояние импорта",
+            description = "Возвращает стадию, прогресс и отклоненные строки задания импорта")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Состояние задания успешно получено"),
+            @ApiResponse(responseCode = "404", description = "Задание не найдено")
+    })
+    @GetMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<ImportJobStatus> getImport(@Parameter(description = "ID задания") @PathVariable String id) {
+        return taskImportService.getJob(id)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private ResponseEntity<ImportJobStatus> submit(ImportJobStatus.Type type, MultipartFile file,
+                                                   ImportFormat format) throws IOException {
+        ImportJobStatus job;
+        try (InputStream content = file.getInputStream()) {
+            job = taskImportService.submit(type, format, content);
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/imports/" + job.getId()))
+                .body(job);
+    }
+}
@@ -1,19 +1,36 @@
 package com.mobile.effective.task_management_system.controller;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
+import com.mobile.effective.task_management_system.dto.TaskBulkReassignment;
+import com.mobile.effective.task_management_system.dto.TaskBulkStatusUpdate;
+import com.mobile.effective.task_management_system.dto.TaskBulkUpdateResult;
+import com.mobile.effective.task_management_system.dto.TaskCreationResult;
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.dto.TaskSearchHit;
+import com.mobile.effective.task_management_system.dto.TaskStats;
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.pagination.TaskSeekOrder;
+import com.mobile.effective.task_management_system.service.TaskExportService;
 import com.mobile.effective.task_management_system.service.TaskService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,16 +40,44 @@ import java.util.Optional;
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    /**
+     * Media type of newline-delimited JSON.
+     */
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    /**
+     * Media type of JSON Merge Patch documents.
+     */
+    private static final String APPLICATION_MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /**
+     * Request header carrying the response preferences of the client.
+     */
+    private static final String PREFER = "Prefer";
+
+    /**
+     * Response header confirming the preferences that were honoured.
+     */
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
+    /**
+     * Preference for a response without the representation of the resource.
+     */
+    private static final String RETURN_MINIMAL = "return=minimal";
+
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
 
     /**
-     * Constructs a TaskController with the specified TaskService.
+     * Constructs a TaskController with the specified TaskService and TaskExportService.
      *
-     * @param taskService the task service to use
+     * @param taskService       the task service to use
+     * @param taskExportService the service used to export tasks
      */
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskExportService taskExportService) {
         this.taskService = taskService;
+        this.taskExportService = taskExportService;
     }
 
     /**
@@ -53,6 +98,88 @@ public class TaskController {
         return ResponseEntity.ok(createdTask);
     }
 
+    /**
+     * Creates many tasks in a single request.
+     *
+     * @param tasks the tasks to create
+     * @return the outcome for each task, in the order of the request
+     */
+    @Operation(summary = "Создает задачи пакетом",
+            description = "Создает список задач и возвращает ID или ошибку для каждой из них")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Запрос обработан, результат указан для каждой задачи"),
+            @ApiResponse(responseCode = "400", description = "Превышен допустимый размер пакета")
+    })
+    @PostMapping("/batch")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<TaskCreationResult>> createTasks(@RequestBody List<Task> tasks) {
+        List<TaskCreationResult> results = taskService.createTasks(tasks);
+        return ResponseEntity.ok(results);
+    }
+
+    /**
+     * Moves many tasks to a new status, selected by IDs or by a filter.
+     *
+     * @param update the selected tasks and their new status
+     * @return the number of tasks that were changed
+     */
+    @Operation(summary = "Массово меняет статус задач",
+            description = "Меняет статус задач, заданных списком ID или фильтром, порциями по одному запросу " +
+                    "к базе и возвращает количество измененных задач")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Статус задач успешно изменен"),
+            @ApiResponse(responseCode = "400", description = "Не задан или неоднозначен отбор задач")
+    })
+    @PostMapping("/bulk/status")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBulkUpdateResult> updateTaskStatuses(@RequestBody @Valid TaskBulkStatusUpdate update) {
+        long updated = taskService.updateTaskStatuses(update);
+        return ResponseEntity.ok(new TaskBulkUpdateResult(updated));
+    }
+
+    /**
+     * Assigns many tasks to another user, selected by IDs or by a filter.
+     *
+     * @param reassignment the selected tasks and their new assignee
+     * @return the number of tasks that were changed
+     */
+    @Operation(summary = "Массово переназначает задачи",
+            description = "Назначает задачи, заданные списком ID или фильтром, другому исполнителю порциями " +
+                    "по одному запросу к базе и возвращает количество измененных задач")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Задачи успешно переназначены"),
+            @ApiResponse(responseCode = "400", description = "Не задан или неоднозначен отбор задач либо исполнитель не найден")
+    })
+    @PostMapping("/bulk/reassign")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskBulkUpdateResult> reassignTasks(@RequestBody TaskBulkReassignment reassignment) {
+        long updated = taskService.reassignTasks(reassignment);
+        return ResponseEntity.ok(new TaskBulkUpdateResult(updated));
+    }
+
+    /**
+     * Retrieves the tasks matching any combination of status, priority, author, assignee and title prefix.
+     *
+     * @param filter   the criteria; criteria that are not set are ignored
+     * @param pageable the pagination information
+     * @return a page of matching tasks
+     */
+    @Operation(summary = "Получает задачи по фильтру",
+            description = "Возвращает задачи, отобранные по любому сочетанию статуса, приоритета, автора, " +
+                    "исполнителя и начала заголовка")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Список задач успешно получен"),
+            @ApiResponse(responseCode = "400", description = "Неверные параметры фильтра")
+    })
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<Task>> getTasks(
+            @ParameterObject TaskFilter filter,
+            @Parameter(description = "Параметры для пагинации") Pageable pageable) {
+        Page<Task> tasks = taskService.getTasks(filter, pageable);
+        return ResponseEntity.ok(tasks);
+    }
+
     /**
      * Retrieves tasks by the given author ID with pagination.
      *
@@ -95,46 +222,227 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Retrieves tasks by the given author ID, one page after the given cursor.
+     * Selected instead of the offset-based listing when the {@code limit} parameter is present.
+     *
+     * @param authorId the ID of the author
+     * @param after    the cursor returned with the previous page
+     * @param limit    the maximum number of tasks on the page
+     * @param order    the order in which the tasks are traversed
+     * @return a page of tasks created by the author, with the cursor of the next page
+     */
+    @Operation(summary = "Получает задачи по ID автора с курсором",
+            description = "Возвращает страницу задач автора после указанного курсора, без подсчета общего количества")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница задач успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Неверный курсор или размер страницы")
+    })
+    @GetMapping(value = "/author/{authorId}", params = "limit")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<Task>> getTasksByAuthorIdAfter(
+            @Parameter(description = "ID автора задач") @PathVariable Long authorId,
+            @Parameter(description = "Курсор, полученный с предыдущей страницей") @RequestParam(required = false) String after,
+            @Parameter(description = "Размер страницы") @RequestParam int limit,
+            @Parameter(description = "Порядок обхода") @RequestParam(defaultValue = "ID") TaskSeekOrder order) {
+        CursorPage<Task> tasks = taskService.getTasksByAuthorId(authorId, order, after, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Retrieves tasks by the given assignee ID, one page after the given cursor.
+     * Selected instead of the offset-based listing when the {@code limit} parameter is present.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param after      the cursor returned with the previous page
+     * @param limit      the maximum number of tasks on the page
+     * @param order      the order in which the tasks are traversed
+     * @return a page of tasks assigned to the assignee, with the cursor of the next page
+     */
+    @Operation(summary = "Получает задачи по ID исполнителя с курсором",
+            description = "Возвращает страницу задач исполнителя после указанного курсора, без подсчета общего количества")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница задач успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Неверный курсор или размер страницы")
+    })
+    @GetMapping(value = "/assignee/{assigneeId}", params = "limit")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<Task>> getTasksByAssigneeIdAfter(
+            @Parameter(description = "ID исполнителя задач") @PathVariable Long assigneeId,
+            @Parameter(description = "Курсор, полученный с предыдущей страницей") @RequestParam(required = false) String after,
+            @Parameter(description = "Размер страницы") @RequestParam int limit,
+            @Parameter(description = "Порядок обхода") @RequestParam(defaultValue = "ID") TaskSeekOrder order) {
+        CursorPage<Task> tasks = taskService.getTasksByAssigneeId(assigneeId, order, after, limit);
+        return ResponseEntity.ok(tasks);
+    }
+
+    /**
+     * Searches tasks by the words of their title and description, most relevant first.
+     *
+     * @param q     the search query
+     * @param after the cursor returned with the previous page
+     * @param limit the maximum number of tasks on the page
+     * @return a page of found tasks with highlighted fragments, with the cursor of the next page
+     */
+    @Operation(summary = "Ищет задачи по тексту",
+            description = "Полнотекстовый поиск по заголовку и описанию задач. Поддерживает фразы в кавычках, " +
+                    "or и исключение слов через минус. Результаты упорядочены по релевантности")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Страница результатов успешно получена"),
+            @ApiResponse(responseCode = "400", description = "Пустой запрос, неверный курсор или размер страницы")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<TaskSearchHit>> searchTasks(
+            @Parameter(description = "Поисковый запрос") @RequestParam String q,
+            @Parameter(description = "Курсор, полученный с предыдущей страницей") @RequestParam(required = false) String after,
+            @Parameter(description = "Размер страницы") @RequestParam(defaultValue = "20") int limit) {
+        CursorPage<TaskSearchHit> hits = taskService.searchTasks(q, after, limit);
+        return ResponseEntity.ok(hits);
+    }
+
+    /**
+     * Exports tasks as newline-delimited JSON, one task per line, in ID order.
+     * The response is streamed while the tasks are read from the database.
+     *
+     * @param authorId   the ID of the author whose tasks to export
+     * @param assigneeId the ID of the assignee whose tasks to export
+     * @return the streamed export
+     */
+    @Operation(summary = "Выгружает задачи в формате NDJSON",
+            description = "Потоково выгружает задачи по одной в строке, в порядке возрастания ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Выгрузка успешно начата")
+    })
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @Parameter(description = "ID автора задач") @RequestParam(required = false) Long authorId,
+            @Parameter(description = "ID исполнителя задач") @RequestParam(required = false) Long assigneeId) {
+        StreamingResponseBody body = out -> taskExportService.exportTasks(authorId, assigneeId, out);
+        return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Retrieves the number of tasks of a user by status and priority, as author and as assignee.
+     *
+     * @param userId the ID of the user
+     * @return the task statistics of the user
+     */
+    @Operation(summary = "Получает статистику задач пользователя",
+            description = "Возвращает количество задач пользователя по статусам и приоритетам, " +
+                    "отдельно для созданных и назначенных задач")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Статистика успешно получена")
+    })
+    @GetMapping("/stats")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<TaskStats> getTaskStats(
+            @Parameter(description = "ID пользователя") @RequestParam Long userId) {
+        TaskStats stats = taskService.getTaskStats(userId);
+        return ResponseEntity.ok(stats);
+    }
+
     /**
      * Retrieves a task by its ID.
+     * The response carries the version of the task as a strong ETag. When {@code If-None-Match}
+     * names the current ETag, only the version is read and 304 is returned without a body.
      *
-     * @param taskId the ID of the task
+     * @param taskId      the ID of the task
+     * @param ifNoneMatch the ETags already held by the client
      * @return the task with the given ID
      */
-    @Operation(summary = "Получает задачу по ID", description = "Возвращает задачу с указанным ID")
+    @Operation(summary = "Получает задачу по ID", description = "Возвращает задачу с указанным ID. " +
+            "Версия задачи передается в заголовке ETag; при совпадении If-None-Match возвращается 304 без тела")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Задача успешно найдена"),
+            @ApiResponse(responseCode = "304", description = "Задача не изменилась"),
             @ApiResponse(responseCode = "404", description = "Задача не найдена")
     })
     @GetMapping("/{taskId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Task> getTaskById(
-            @Parameter(description = "ID задачи") @PathVariable Long taskId) {
+            @Parameter(description = "ID задачи") @PathVariable Long taskId,
+            @Parameter(description = "ETag, полученный ранее") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<Long> version = taskService.getTaskVersion(taskId);
+            if (version.isEmpty()) {
+                return ResponseEntity.notFound().build();
+            }
+            String etag = EntityTags.of(version.get());
+            if (EntityTags.noneMatchFails(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
         Optional<Task> task = taskService.getTaskById(taskId);
-        return task.map(ResponseEntity::ok)
+        return task.map(found -> ResponseEntity.ok().eTag(EntityTags.of(found.getVersion())).body(found))
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
     /**
      * Updates an existing task.
+     * With {@code If-Match} the task is updated only if it is still at the version named by the ETag.
      *
      * @param taskId      the ID of the task to update
+     * @param ifMatch     the ETag of the version the client has seen
      * @param taskDetails the new details of the task
      * @return the updated task
      */
-    @Operation(summary = "Обновляет задачу", description = "Обновляет существующую задачу с указанным ID")
+    @Operation(summary = "Обновляет задачу", description = "Обновляет существующую задачу с указанным ID. " +
+            "С заголовком If-Match задача обновляется, только если ее версия не изменилась")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Задача успешно обновлена"),
             @ApiResponse(responseCode = "400", description = "Ошибка валидации данных"),
-            @ApiResponse(responseCode = "404", description = "Задача не найдена")
+            @ApiResponse(responseCode = "404", description = "Задача не найдена"),
+            @ApiResponse(responseCode = "409", description = "Задача одновременно изменена другим запросом"),
+            @ApiResponse(responseCode = "412", description = "Версия задачи не совпадает с If-Match")
     })
     @PutMapping("/{taskId}")
     @PreAuthorize("isAuthenticated()")
     public ResponseEntity<Task> updateTask(
             @Parameter(description = "ID задачи для обновления") @PathVariable Long taskId,
+            @Parameter(description = "ETag изменяемой версии задачи") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody @Valid Task taskDetails) {
-        Task updatedTask = taskService.updateTask(taskId, taskDetails);
-        return ResponseEntity.ok(updatedTask);
+        Task updatedTask = taskService.updateTask(taskId, taskDetails, EntityTags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(EntityTags.of(updatedTask.getVersion())).body(updatedTask);
+    }
+
+    /**
+     * Changes only the fields present in the request, with a single UPDATE that returns the new row.
+     * With {@code Prefer: return=minimal} the task is not sent back; the new version is in the ETag.
+     *
+     * @param taskId  the ID of the task to update
+     * @param ifMatch the ETag of the version the client has seen
+     * @param prefer  the preferences of the client for the response
+     * @param patch   the fields to change
+     * @return the updated task
+     */
+    @Operation(summary = "Частично обновляет задачу",
+            description = "Изменяет только переданные поля задачи одним запросом к базе. " +
+                    "С заголовком Prefer: return=minimal возвращает 204 без тела")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Задача успешно обновлена"),
+            @ApiResponse(responseCode = "204", description = "Задача успешно обновлена, тело не запрошено"),
+            @ApiResponse(responseCode = "400", description = "Ошибка валидации данных или исполнитель не найден"),
+            @ApiResponse(responseCode = "404", description = "Задача не найдена"),
+            @ApiResponse(responseCode = "412", description = "Версия задачи не совпадает с If-Match")
+    })
+    @PatchMapping(value = "/{taskId}", consumes = {MediaType.APPLICATION_JSON_VALUE, APPLICATION_MERGE_PATCH_JSON_VALUE})
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Task> patchTask(
+            @Parameter(description = "ID задачи для обновления") @PathVariable Long taskId,
+            @Parameter(description = "ETag изменяемой версии задачи") @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Parameter(description = "return=minimal, чтобы не получать задачу в ответе") @RequestHeader(value = PREFER, required = false) String prefer,
+            @RequestBody @Valid TaskPatch patch) {
+        Optional<Task> task = taskService.patchTask(taskId, patch, EntityTags.expectedVersion(ifMatch));
+        if (task.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        String etag = EntityTags.of(task.get().getVersion());
+        if (RETURN_MINIMAL.equalsIgnoreCase(prefer == null ? null : prefer.trim())) {
+            return ResponseEntity.noContent().eTag(etag).header(PREFERENCE_APPLIED, RETURN_MINIMAL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(task.get());
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.mobile.effective.task_management_system.controller;
 
+import com.mobile.effective.task_management_system.dto.UserRegistrationResult;
 import com.mobile.effective.task_management_system.model.User;
 import com.mobile.effective.task_management_system.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -12,6 +13,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -50,6 +52,28 @@ public class UserController {
         return ResponseEntity.ok(registeredUser);
     }
 
+    /**
+     * Registers many users in a single request.
+     * Only authenticated users may call it, since every request hashes up to {@code users.bulk.max-size} passwords.
+     *
+     * @param users the users to register
+     * @return the outcome for each user, in the order of the request
+     */
+    @Operation(summary = "Регистрирует пользователей пакетом",
+            description = "Регистрирует список пользователей и возвращает результат для каждого из них")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Запрос обработан, результат указан для каждого пользователя"),
+            @ApiResponse(responseCode = "400", description = "Превышен допустимый размер пакета"),
+            @ApiResponse(responseCode = "403", description = "Пользователь не аутентифицирован"),
+            @ApiResponse(responseCode = "503", description = "Сервис перегружен, повторите запрос позже")
+    })
+    @PostMapping("/register/bulk")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<UserRegistrationResult>> registerUsers(@RequestBody List<User> users) {
+        List<UserRegistrationResult> results = userService.registerUsers(users);
+        return ResponseEntity.ok(results);
+    }
+
     /**
      * Retrieves a user by their email.
      *
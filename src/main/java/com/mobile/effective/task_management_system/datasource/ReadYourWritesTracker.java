@@ -0,0 +1,61 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers which sessions have recently committed a write, so their reads can be kept on the primary
+ * until the replicas have caught up. A session is the authenticated user of the current thread;
+ * work without an authenticated user has no session and is never pinned to the primary.
+ */
+public class ReadYourWritesTracker {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    /**
+     * Constructs a ReadYourWritesTracker.
+     *
+     * @param window      how long the reads of a session stay on the primary after its last write
+     * @param maximumSize the maximum number of sessions remembered at once
+     */
+    public ReadYourWritesTracker(Duration window, long maximumSize) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Records that the current session has committed a write.
+     */
+    public void recordWrite() {
+        String session = currentSession();
+        if (session != null) {
+            recentWriters.put(session, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Tells whether the current session has committed a write within the window.
+     *
+     * @return true if the reads of the current session must go to the primary
+     */
+    public boolean hasRecentWrite() {
+        String session = currentSession();
+        return session != null && recentWriters.getIfPresent(session) != null;
+    }
+
+    private static String currentSession() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,50 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import java.sql.SQLException;
+
+/**
+ * JPA dialect that keeps the entities loaded by read-only transactions out of the second-level cache.
+ * Read-only transactions may be served by a lagging replica; a row read there after a write evicted it
+ * would otherwise be cached again and served in place of the current one until it expires. Such
+ * transactions still read from the cache, with {@link CacheStoreMode#BYPASS} for the entity manager;
+ * the cache is filled by writes and by reads on the primary.
+ */
+public class ReplicaReadJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException, TransactionException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Object previousStoreMode = entityManager.getProperties().get(SpecHints.HINT_SPEC_CACHE_STORE_MODE);
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        return new ReadOnlyTransactionData(transactionData, entityManager,
+                previousStoreMode == null ? CacheStoreMode.USE : previousStoreMode);
+    }
+
+    @Override
+    public void cleanupTransaction(Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData readOnly) {
+            if (readOnly.entityManager().isOpen()) {
+                readOnly.entityManager().setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, readOnly.previousStoreMode());
+            }
+            super.cleanupTransaction(readOnly.transactionData());
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private record ReadOnlyTransactionData(Object transactionData, EntityManager entityManager,
+                                           Object previousStoreMode) {
+    }
+}
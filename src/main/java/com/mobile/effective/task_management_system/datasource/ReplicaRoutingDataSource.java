@@ -0,0 +1,166 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DataSource} of read-only transactions. Connections are taken from the replicas in turn,
+ * skipping replicas whose replication lag exceeds the allowed maximum or that could not be checked.
+ * The primary is used instead when no replica is usable, or when the current session has written
+ * recently and could otherwise miss its own changes.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    /**
+     * Replication lag in seconds; zero when everything received has been replayed, and null while
+     * a standby has not replayed anything yet. An instance that is not a standby reports no lag.
+     */
+    private static final String LAG_QUERY = "SELECT CASE"
+            + " WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+            + " ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final double maxLagSeconds;
+    private final ReadYourWritesTracker tracker;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter replicaReads;
+    private final Counter primaryReads;
+
+    /**
+     * Constructs a ReplicaRoutingDataSource. Replicas are not used until their lag has been checked.
+     *
+     * @param primary       the data source of the primary, used when no replica may serve a read
+     * @param replicas      the data sources of the replicas
+     * @param maxLag        the maximum replication lag of a replica that serves reads
+     * @param tracker       the tracker of sessions that have written recently
+     * @param meterRegistry the registry to which the routing counters and replica lag gauges are bound
+     */
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration maxLag,
+                                    ReadYourWritesTracker tracker, MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.tracker = tracker;
+        this.replicaReads = Counter.builder("datasource.reads")
+                .tag("target", "replica")
+                .description("Connections of read-only transactions taken from a replica")
+                .register(meterRegistry);
+        this.primaryReads = Counter.builder("datasource.reads")
+                .tag("target", "primary")
+                .description("Connections of read-only transactions taken from the primary")
+                .register(meterRegistry);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            Replica replica = this.replicas.get(i);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .tag("replica", String.valueOf(i))
+                    .baseUnit("seconds")
+                    .description("Replication lag of the replica as last checked, NaN if it could not be checked")
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route().getConnection(username, password);
+    }
+
+    private DataSource route() {
+        if (!replicas.isEmpty() && !tracker.hasRecentWrite()) {
+            int size = replicas.size();
+            int start = Math.floorMod(next.getAndIncrement(), size);
+            for (int i = 0; i < size; i++) {
+                Replica replica = replicas.get((start + i) % size);
+                if (replica.usable) {
+                    replicaReads.increment();
+                    return replica.dataSource;
+                }
+            }
+        }
+        primaryReads.increment();
+        return primary;
+    }
+
+    /**
+     * Measures the replication lag of every replica and marks as usable the replicas within the maximum.
+     * A replica that cannot be reached or has not replayed anything yet is not usable until the next check.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-interval:1000}")
+    public void checkReplicaLag() {
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            double lag = measureLag(replica.dataSource, i);
+            boolean usable = !Double.isNaN(lag) && lag <= maxLagSeconds;
+            if (usable != replica.usable) {
+                logger.info("Replica {} is {} (lag {} s, maximum {} s)", i,
+                        usable ? "serving reads again" : "no longer serving reads", lag, maxLagSeconds);
+            }
+            replica.lagSeconds = lag;
+            replica.usable = usable;
+        }
+    }
+
+    private static double measureLag(DataSource dataSource, int index) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            if (resultSet.next()) {
+                double lag = resultSet.getDouble(1);
+                return resultSet.wasNull() ? Double.NaN : lag;
+            }
+            return Double.NaN;
+        } catch (SQLException e) {
+            logger.warn("Failed to check the lag of replica {}: {}", index, e.getMessage());
+            return Double.NaN;
+        }
+    }
+
+    /**
+     * Closes the replica data sources that can be closed.
+     *
+     * @throws Exception if a replica data source fails to close
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    /**
+     * A replica data source with the result of its last lag check.
+     */
+    private static final class Replica {
+
+        private final DataSource dataSource;
+        private volatile boolean usable;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
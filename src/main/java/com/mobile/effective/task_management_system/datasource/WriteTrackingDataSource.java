@@ -0,0 +1,54 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Primary {@link DataSource} that reports each committed read-write transaction to the
+ * {@link ReadYourWritesTracker}, so the reads that follow in the same session stay on the primary.
+ */
+public class WriteTrackingDataSource extends DelegatingDataSource {
+
+    private final ReadYourWritesTracker tracker;
+
+    /**
+     * Constructs a WriteTrackingDataSource.
+     *
+     * @param primary the primary data source
+     * @param tracker the tracker to which committed writes are reported
+     */
+    public WriteTrackingDataSource(DataSource primary, ReadYourWritesTracker tracker) {
+        super(primary);
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        trackCurrentTransaction();
+        return super.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        trackCurrentTransaction();
+        return super.getConnection(username, password);
+    }
+
+    private void trackCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tracker.recordWrite();
+            }
+        });
+    }
+}
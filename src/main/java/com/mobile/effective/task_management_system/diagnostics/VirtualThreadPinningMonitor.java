@@ -0,0 +1,109 @@
+package com.mobile.effective.task_management_system.diagnostics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads pinned to their carrier thread, which happens when a virtual thread blocks
+ * inside a {@code synchronized} block or a native frame, for instance in the JDBC driver or the
+ * connection pool. While pinned, the carrier cannot run other virtual threads, so long pinning
+ * turns the virtual thread scheduler back into a small platform thread pool.
+ * <p>
+ * The {@code jdk.VirtualThreadPinned} events are read from an in-process JFR stream. Each event longer
+ * than the threshold is logged with the top of its stack and recorded in the {@code jvm.threads.virtual.pinned}
+ * timer, tagged with the class in which the virtual thread was pinned. Active only when
+ * {@code spring.threads.virtual.enabled} is set.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.", "com.sun.");
+
+    private final RecordingStream stream;
+    private final MeterRegistry meterRegistry;
+    private final int stackDepth;
+
+    /**
+     * Constructs a VirtualThreadPinningMonitor and starts reading pinning events.
+     *
+     * @param threshold     the minimum duration of a pinning that is reported
+     * @param stackDepth    the number of stack frames logged for each pinning
+     * @param meterRegistry the registry to which the pinning timer is bound
+     */
+    public VirtualThreadPinningMonitor(@Value("${virtual-threads.pinning.threshold:20ms}") Duration threshold,
+                                       @Value("${virtual-threads.pinning.stack-depth:10}") int stackDepth,
+                                       MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.stackDepth = stackDepth;
+        this.stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+    }
+
+    /**
+     * Stops reading pinning events when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        stream.close();
+    }
+
+    void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = stackTrace == null ? List.of() : stackTrace.getFrames();
+        String source = source(frames);
+        Duration duration = event.getDuration();
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .tag("class", source)
+                .description("Time virtual threads were pinned to their carrier thread")
+                .register(meterRegistry)
+                .record(duration);
+
+        StringBuilder stack = new StringBuilder();
+        for (RecordedFrame frame : frames.subList(0, Math.min(stackDepth, frames.size()))) {
+            stack.append(System.lineSeparator()).append("\tat ");
+            if (frame.getMethod() == null) {
+                stack.append("<unknown>");
+                continue;
+            }
+            stack.append(frame.getMethod().getType().getName()).append('.')
+                    .append(frame.getMethod().getName()).append(':').append(frame.getLineNumber());
+        }
+        logger.warn("Virtual thread pinned to its carrier for {} ms in {}{}", duration.toMillis(), source, stack);
+    }
+
+    /**
+     * Returns the class of the topmost frame outside the JDK, where the blocking call was made.
+     */
+    private static String source(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            if (frame.getMethod() == null) {
+                continue;
+            }
+            String type = frame.getMethod().getType().getName();
+            if (JDK_PACKAGES.stream().noneMatch(type::startsWith)) {
+                return type;
+            }
+        }
+        return "unknown";
+    }
+}
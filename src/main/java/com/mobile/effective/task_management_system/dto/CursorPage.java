@@ -0,0 +1,30 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Page of a listing traversed with a cursor.
+ *
+ * @param <T> the type of the items
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Страница списка, получаемая по курсору")
+public class CursorPage<T> {
+
+    /**
+     * Items of the page.
+     */
+    @Schema(description = "Элементы страницы")
+    private List<T> items;
+
+    /**
+     * Cursor of the next page, absent on the last page.
+     */
+    @Schema(description = "Курсор следующей страницы; отсутствует на последней странице", example = "SUQ6NDI")
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Error details returned to the client when a request cannot be processed.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Описание ошибки")
+public class ErrorResponse {
+
+    /**
+     * Human-readable description of the error.
+     */
+    @Schema(description = "Сообщение об ошибке", example = "Неверный email или пароль")
+    private String message;
+}
@@ -0,0 +1,131 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Progress and outcome of a bulk import job.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Состояние задания импорта")
+public class ImportJobStatus {
+
+    /**
+     * Kinds of data that can be imported.
+     */
+    @Schema(description = "Тип импортируемых данных")
+    public enum Type {
+        @Schema(description = "Задачи")
+        TASKS,
+        @Schema(description = "Комментарии к задачам")
+        COMMENTS
+    }
+
+    /**
+     * Stages of an import job, in the order they are passed.
+     */
+    @Schema(description = "Стадия задания")
+    public enum State {
+        @Schema(description = "Задание ожидает свободного обработчика")
+        QUEUED,
+        @Schema(description = "Файл загружается в промежуточную таблицу")
+        COPYING,
+        @Schema(description = "Строки проверяются, email и ссылки разрешаются в ID")
+        VALIDATING,
+        @Schema(description = "Корректные строки переносятся в основные таблицы")
+        MERGING,
+        @Schema(description = "Импорт завершен")
+        COMPLETED,
+        @Schema(description = "Импорт прерван, данные не изменены")
+        FAILED
+    }
+
+    /**
+     * ID of the job.
+     */
+    @Schema(description = "ID задания", example = "3f2b6c1e-8a4d-4f7e-9b1a-2c5d7e9f0a1b")
+    private String id;
+
+    /**
+     * Kind of data being imported.
+     */
+    @Schema(description = "Тип импортируемых данных", example = "TASKS")
+    private Type type;
+
+    /**
+     * Current stage of the job.
+     */
+    @Schema(description = "Стадия задания", example = "COPYING")
+    private State state;
+
+    /**
+     * Size of the uploaded file in bytes.
+     */
+    @Schema(description = "Размер файла в байтах", example = "104857600")
+    private long bytesTotal;
+
+    /**
+     * Number of bytes of the file read so far.
+     */
+    @Schema(description = "Прочитано байт файла", example = "52428800")
+    private long bytesRead;
+
+    /**
+     * Number of rows loaded into the staging table, known once the copy has finished.
+     */
+    @Schema(description = "Строк загружено в промежуточную таблицу", example = "1000000")
+    private long rowsCopied;
+
+    /**
+     * Number of rows rejected by validation.
+     */
+    @Schema(description = "Строк отклонено", example = "12")
+    private long rowsRejected;
+
+    /**
+     * Number of rows inserted into the target table.
+     */
+    @Schema(description = "Строк импортировано", example = "999988")
+    private long rowsImported;
+
+    /**
+     * Average number of copied rows per second since the job started.
+     */
+    @Schema(description = "Средняя скорость загрузки, строк в секунду", example = "250000.0")
+    private double rowsPerSecond;
+
+    /**
+     * Time the job was accepted.
+     */
+    @Schema(description = "Время приема задания")
+    private Instant submittedAt;
+
+    /**
+     * Time the job started running.
+     */
+    @Schema(description = "Время начала обработки")
+    private Instant startedAt;
+
+    /**
+     * Time the job completed or failed.
+     */
+    @Schema(description = "Время завершения")
+    private Instant finishedAt;
+
+    /**
+     * Reason why the job failed.
+     */
+    @Schema(description = "Причина ошибки задания", example = "Invalid JSON on line 7")
+    private String message;
+
+    /**
+     * First rejected rows of the file.
+     */
+    @Schema(description = "Первые отклоненные строки файла")
+    private List<ImportRowError> errors;
+}
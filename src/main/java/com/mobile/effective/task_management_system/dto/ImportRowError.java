@@ -0,0 +1,26 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A row of an import file that was rejected.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Отклоненная строка файла импорта")
+public class ImportRowError {
+
+    /**
+     * Number of the row in the file, counting data rows from 1.
+     */
+    @Schema(description = "Номер строки данных в файле, начиная с 1", example = "42")
+    private long row;
+
+    /**
+     * Reason why the row was rejected.
+     */
+    @Schema(description = "Причина отклонения", example = "Неизвестный автор: user@example.com")
+    private String message;
+}
@@ -0,0 +1,31 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Credentials submitted to obtain a JWT token.
+ */
+@Getter
+@Setter
+@Schema(description = "Данные для входа")
+public class LoginRequest {
+
+    /**
+     * Email of the user.
+     */
+    @Email(message = "Email должен быть корректным")
+    @NotEmpty(message = "Email не может быть пустым")
+    @Schema(description = "Email пользователя", example = "user@example.com")
+    private String email;
+
+    /**
+     * Password of the user.
+     */
+    @NotEmpty(message = "Пароль не может быть пустым")
+    @Schema(description = "Пароль пользователя", example = "password123")
+    private String password;
+}
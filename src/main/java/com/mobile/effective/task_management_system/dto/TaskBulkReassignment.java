@@ -0,0 +1,20 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Assigns the selected tasks to another user.
+ */
+@Getter
+@Setter
+@Schema(description = "Массовое переназначение задач")
+public class TaskBulkReassignment extends TaskSelection {
+
+    /**
+     * ID of the new assignee, or null to unassign the tasks.
+     */
+    @Schema(description = "ID нового исполнителя; null снимает исполнителя", example = "2")
+    private Long assigneeId;
+}
@@ -0,0 +1,23 @@
+package com.mobile.effective.task_management_system.dto;
+
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Moves the selected tasks to a new status.
+ */
+@Getter
+@Setter
+@Schema(description = "Массовая смена статуса задач")
+public class TaskBulkStatusUpdate extends TaskSelection {
+
+    /**
+     * New status of the tasks.
+     */
+    @NotNull(message = "Статус задачи не может быть пустым")
+    @Schema(description = "Новый статус задач", example = "COMPLETED")
+    private TaskStatus status;
+}
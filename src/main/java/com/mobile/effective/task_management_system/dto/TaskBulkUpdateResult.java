@@ -0,0 +1,20 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of a bulk update of tasks.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Результат массового изменения задач")
+public class TaskBulkUpdateResult {
+
+    /**
+     * Number of tasks that were changed. Tasks that already had the requested value are not counted.
+     */
+    @Schema(description = "Количество измененных задач", example = "120")
+    private long updated;
+}
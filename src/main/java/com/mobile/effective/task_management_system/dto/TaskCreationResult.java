@@ -0,0 +1,51 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of creating a single task as part of a batch.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Результат создания задачи в пакетном запросе")
+public class TaskCreationResult {
+
+    /**
+     * Possible outcomes of creating a task.
+     */
+    @Schema(description = "Статус создания")
+    public enum Status {
+        @Schema(description = "Задача создана")
+        CREATED,
+        @Schema(description = "Данные задачи некорректны")
+        INVALID,
+        @Schema(description = "Задача не сохранена базой данных")
+        FAILED
+    }
+
+    /**
+     * Position of the task in the request.
+     */
+    @Schema(description = "Позиция задачи в запросе", example = "0")
+    private int index;
+
+    /**
+     * Outcome of the creation.
+     */
+    @Schema(description = "Статус создания", example = "CREATED")
+    private Status status;
+
+    /**
+     * ID of the created task, present only when the task was created.
+     */
+    @Schema(description = "ID созданной задачи", example = "1")
+    private Long id;
+
+    /**
+     * Reason why the task was not created.
+     */
+    @Schema(description = "Причина отказа", example = "Заголовок задачи не может быть пустым")
+    private String message;
+}
@@ -0,0 +1,46 @@
+package com.mobile.effective.task_management_system.dto;
+
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Criteria for filtering tasks. Only the criteria that are set take part in the query.
+ */
+@Getter
+@Setter
+@Schema(description = "Критерии фильтрации задач; учитываются только заданные")
+public class TaskFilter {
+
+    /**
+     * Status of the tasks.
+     */
+    @Schema(description = "Статус задачи", example = "PENDING")
+    private TaskStatus status;
+
+    /**
+     * Priority of the tasks.
+     */
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private TaskPriority priority;
+
+    /**
+     * ID of the author of the tasks.
+     */
+    @Schema(description = "ID автора задачи", example = "1")
+    private Long authorId;
+
+    /**
+     * ID of the assignee of the tasks.
+     */
+    @Schema(description = "ID исполнителя задачи", example = "2")
+    private Long assigneeId;
+
+    /**
+     * Beginning of the task title, compared ignoring case.
+     */
+    @Schema(description = "Начало заголовка задачи, без учета регистра", example = "Задача")
+    private String titlePrefix;
+}
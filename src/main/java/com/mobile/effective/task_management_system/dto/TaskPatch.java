@@ -0,0 +1,96 @@
+package com.mobile.effective.task_management_system.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Pattern;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Partial update of a task in the JSON Merge Patch style: only the fields present in the request are changed.
+ * The title, status and priority cannot be cleared, so null leaves them unchanged. The description and
+ * the assignee are cleared by an explicit null.
+ */
+@Getter
+@Setter
+@Schema(description = "Частичное обновление задачи; изменяются только переданные поля")
+public class TaskPatch {
+
+    /**
+     * New title of the task.
+     */
+    @Pattern(regexp = "(?s).*\\S.*", message = "Заголовок задачи не может быть пустым")
+    @Schema(description = "Заголовок задачи", example = "Задача №1")
+    private String title;
+
+    /**
+     * New description of the task.
+     */
+    @Schema(description = "Описание задачи; null очищает описание", example = "Описание задачи №1")
+    private String description;
+
+    /**
+     * New status of the task.
+     */
+    @Schema(description = "Статус задачи", example = "IN_PROGRESS")
+    private TaskStatus status;
+
+    /**
+     * New priority of the task.
+     */
+    @Schema(description = "Приоритет задачи", example = "HIGH")
+    private TaskPriority priority;
+
+    /**
+     * ID of the new assignee of the task.
+     */
+    @Schema(description = "ID исполнителя задачи; null снимает исполнителя", example = "2")
+    private Long assigneeId;
+
+    /**
+     * Whether the description is present in the request, even as null.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean descriptionPresent;
+
+    /**
+     * Whether the assignee ID is present in the request, even as null.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    private boolean assigneeIdPresent;
+
+    /**
+     * Sets the new description; called only when the field is present in the request.
+     *
+     * @param description the new description, or null to clear it
+     */
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionPresent = true;
+    }
+
+    /**
+     * Sets the ID of the new assignee; called only when the field is present in the request.
+     *
+     * @param assigneeId the ID of the new assignee, or null to unassign the task
+     */
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+        this.assigneeIdPresent = true;
+    }
+
+    /**
+     * Checks whether the patch changes nothing.
+     *
+     * @return true if no field is to be changed
+     */
+    @JsonIgnore
+    public boolean isEmpty() {
+        return title == null && !descriptionPresent && status == null && priority == null && !assigneeIdPresent;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mobile.effective.task_management_system.dto;
+
+import com.mobile.effective.task_management_system.model.Task;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Task found by a full-text search, with its relevance and highlighted fragments.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Задача, найденная полнотекстовым поиском")
+public class TaskSearchHit {
+
+    /**
+     * Found task.
+     */
+    @Schema(description = "Найденная задача")
+    private Task task;
+
+    /**
+     * Relevance of the task to the query; higher is more relevant.
+     */
+    @Schema(description = "Релевантность задачи запросу, чем больше, тем выше", example = "0.35")
+    private float rank;
+
+    /**
+     * HTML-escaped title with the matched words wrapped in {@code <mark>} tags.
+     */
+    @Schema(description = "Заголовок, совпавшие слова обернуты в теги <mark>; остальной текст экранирован для HTML",
+            example = "Исправить <mark>ошибку</mark> входа")
+    private String titleHighlight;
+
+    /**
+     * HTML-escaped fragments of the description with the matched words wrapped in {@code <mark>} tags.
+     */
+    @Schema(description = "Фрагменты описания, совпавшие слова обернуты в теги <mark>; остальной текст экранирован для HTML",
+            example = "Пользователь видит <mark>ошибку</mark> после ввода пароля")
+    private String descriptionHighlight;
+}
@@ -0,0 +1,28 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Tasks targeted by a bulk operation, given either as a list of IDs or as a filter.
+ */
+@Getter
+@Setter
+@Schema(description = "Задачи, к которым применяется массовая операция: список ID или фильтр")
+public class TaskSelection {
+
+    /**
+     * IDs of the tasks.
+     */
+    @Schema(description = "ID задач", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    /**
+     * Criteria of the tasks; at least one criterion must be set.
+     */
+    @Schema(description = "Критерии отбора задач; должен быть задан хотя бы один")
+    private TaskFilter filter;
+}
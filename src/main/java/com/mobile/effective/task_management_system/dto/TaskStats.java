@@ -0,0 +1,69 @@
+package com.mobile.effective.task_management_system.dto;
+
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * Number of tasks of a user by status and priority, as author and as assignee.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Количество задач пользователя по статусам и приоритетам")
+public class TaskStats {
+
+    /**
+     * ID of the user.
+     */
+    @Schema(description = "ID пользователя", example = "1")
+    private Long userId;
+
+    /**
+     * Tasks created by the user.
+     */
+    @Schema(description = "Задачи, созданные пользователем")
+    private RoleStats authored;
+
+    /**
+     * Tasks assigned to the user.
+     */
+    @Schema(description = "Задачи, назначенные пользователю")
+    private RoleStats assigned;
+
+    /**
+     * Number of tasks of a user in one role.
+     */
+    @Getter
+    @AllArgsConstructor
+    @Schema(description = "Количество задач пользователя в одной роли")
+    public static class RoleStats {
+
+        /**
+         * Total number of tasks.
+         */
+        @Schema(description = "Всего задач", example = "12")
+        private long total;
+
+        /**
+         * Number of tasks per status, including statuses without tasks.
+         */
+        @Schema(description = "Количество задач по статусам")
+        private Map<TaskStatus, Long> byStatus;
+
+        /**
+         * Number of tasks per priority, including priorities without tasks.
+         */
+        @Schema(description = "Количество задач по приоритетам")
+        private Map<TaskPriority, Long> byPriority;
+
+        /**
+         * Number of tasks per status and priority, including combinations without tasks.
+         */
+        @Schema(description = "Количество задач по статусам и приоритетам")
+        private Map<TaskStatus, Map<TaskPriority, Long>> byStatusAndPriority;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * JWT token issued after a successful login.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "JWT-токен доступа")
+public class TokenResponse {
+
+    /**
+     * The issued bearer token.
+     */
+    @Schema(description = "JWT-токен", example = "eyJhbGciOiJIUzI1NiJ9...")
+    private String token;
+}
@@ -0,0 +1,57 @@
+package com.mobile.effective.task_management_system.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Outcome of registering a single user as part of a bulk registration.
+ */
+@Getter
+@AllArgsConstructor
+@Schema(description = "Результат регистрации пользователя в пакетном запросе")
+public class UserRegistrationResult {
+
+    /**
+     * Possible outcomes of registering a user.
+     */
+    @Schema(description = "Статус регистрации")
+    public enum Status {
+        @Schema(description = "Пользователь зарегистрирован")
+        CREATED,
+        @Schema(description = "Email уже занят")
+        CONFLICT,
+        @Schema(description = "Данные пользователя некорректны")
+        INVALID
+    }
+
+    /**
+     * Position of the user in the request.
+     */
+    @Schema(description = "Позиция пользователя в запросе", example = "0")
+    private int index;
+
+    /**
+     * Email of the user.
+     */
+    @Schema(description = "Email пользователя", example = "user@example.com")
+    private String email;
+
+    /**
+     * Outcome of the registration.
+     */
+    @Schema(description = "Статус регистрации", example = "CREATED")
+    private Status status;
+
+    /**
+     * ID of the registered user, present only when the user was created.
+     */
+    @Schema(description = "ID зарегистрированного пользователя", example = "1")
+    private Long id;
+
+    /**
+     * Reason why the user was not created.
+     */
+    @Schema(description = "Причина отказа", example = "Email уже занят")
+    private String message;
+}
@@ -0,0 +1,31 @@
+package com.mobile.effective.task_management_system.exception;
+
+/**
+ * Thrown when a bounded resource, such as the password hashing executor, cannot accept more work.
+ * Clients are expected to retry after the given delay.
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a ServiceOverloadedException.
+     *
+     * @param message           the detail message
+     * @param retryAfterSeconds the number of seconds after which the client may retry
+     * @param cause             the cause of the rejection
+     */
+    public ServiceOverloadedException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Returns the number of seconds after which the client may retry.
+     *
+     * @return the retry delay in seconds
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,30 @@
+package com.mobile.effective.task_management_system.exception;
+
+/**
+ * Thrown when a conditional update names a version of a task other than its current one.
+ * The client is expected to fetch the task again before retrying.
+ */
+public class TaskVersionMismatchException extends RuntimeException {
+
+    private final long currentVersion;
+
+    /**
+     * Constructs a TaskVersionMismatchException.
+     *
+     * @param taskId         the ID of the task
+     * @param currentVersion the current version of the task
+     */
+    public TaskVersionMismatchException(Long taskId, long currentVersion) {
+        super("Task " + taskId + " has been modified, current version is " + currentVersion);
+        this.currentVersion = currentVersion;
+    }
+
+    /**
+     * Returns the current version of the task.
+     *
+     * @return the current version
+     */
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mobile.effective.task_management_system.importing;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Formats accepted by the bulk import.
+ */
+@Schema(description = "Формат файла импорта")
+public enum ImportFormat {
+    @Schema(description = "CSV с заголовком, столбцы в документированном порядке")
+    CSV,
+    @Schema(description = "JSON-объект в каждой строке (NDJSON)")
+    NDJSON
+}
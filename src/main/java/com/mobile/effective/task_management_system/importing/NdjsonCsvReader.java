@@ -0,0 +1,104 @@
+package com.mobile.effective.task_management_system.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Reader that converts newline-delimited JSON into CSV on the fly, so NDJSON uploads can be fed
+ * to PostgreSQL {@code COPY ... (FORMAT csv, HEADER true)} without being converted up front.
+ * Each JSON object becomes one CSV row with the given fields in order; missing and null fields
+ * become unquoted empty values, which {@code COPY} loads as NULL. Blank lines are skipped.
+ */
+public class NdjsonCsvReader extends Reader {
+
+    private final BufferedReader source;
+    private final ObjectMapper objectMapper;
+    private final List<String> fields;
+    private final StringBuilder buffer = new StringBuilder();
+    private int position;
+    private long lineNumber;
+    private boolean exhausted;
+
+    /**
+     * Constructs an NdjsonCsvReader.
+     *
+     * @param source       the NDJSON input
+     * @param objectMapper the object mapper used to parse each line
+     * @param fields       the JSON fields written as CSV columns, in order
+     */
+    public NdjsonCsvReader(BufferedReader source, ObjectMapper objectMapper, List<String> fields) {
+        this.source = source;
+        this.objectMapper = objectMapper;
+        this.fields = List.copyOf(fields);
+        buffer.append(String.join(",", fields)).append('\n');
+    }
+
+    @Override
+    public int read(char[] target, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (position == buffer.length()) {
+            if (exhausted || !fill()) {
+                exhausted = true;
+                return -1;
+            }
+        }
+        int count = Math.min(length, buffer.length() - position);
+        buffer.getChars(position, position + count, target, offset);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    /**
+     * Converts the next non-blank JSON line into a CSV row.
+     *
+     * @return false if the input is exhausted
+     */
+    private boolean fill() throws IOException {
+        buffer.setLength(0);
+        position = 0;
+        String line;
+        do {
+            line = source.readLine();
+            lineNumber++;
+            if (line == null) {
+                return false;
+            }
+        } while (line.isBlank());
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new IOException("Invalid JSON on line " + lineNumber + ": " + e.getOriginalMessage(), e);
+        }
+        if (!node.isObject()) {
+            throw new IOException("Line " + lineNumber + " is not a JSON object");
+        }
+
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            JsonNode value = node.get(fields.get(i));
+            if (value != null && !value.isNull()) {
+                String text = value.isValueNode() ? value.asText() : value.toString();
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            }
+        }
+        buffer.append('\n');
+        return true;
+    }
+}
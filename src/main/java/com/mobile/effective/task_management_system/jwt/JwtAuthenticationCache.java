@@ -0,0 +1,173 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded cache of authentications resolved from verified JWT tokens.
+ * Entries are keyed by the SHA-256 digest of the token, so raw tokens are never kept in memory,
+ * and each entry expires exactly when its token does. Eviction uses the size-bounded
+ * W-TinyLFU policy of Caffeine. Repeat requests with the same token skip both the
+ * signature verification and the user lookup.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    /**
+     * Constructs a JwtAuthenticationCache and registers its statistics as metrics.
+     *
+     * @param maximumSize   the maximum number of cached tokens
+     * @param meterRegistry the registry to which the hit, miss and eviction counters are bound
+     */
+    public JwtAuthenticationCache(@Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                                  MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.authentication");
+    }
+
+    /**
+     * Returns the cached authentication for the given token.
+     *
+     * @param token the raw JWT token
+     * @return the cached authentication, or null if the token is not cached or has expired
+     */
+    public CachedAuthentication get(String token) {
+        return cache.getIfPresent(digest(token));
+    }
+
+    /**
+     * Caches the authentication resolved for a verified token until the token expires.
+     * Tokens without an expiration are not cached.
+     *
+     * @param verifiedToken  the verified token
+     * @param authentication the authentication resolved for the token
+     */
+    public void put(VerifiedToken verifiedToken, Authentication authentication) {
+        Date expiration = verifiedToken.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        CachedAuthentication cached = new CachedAuthentication(authentication, verifiedToken.getId(), expiration.getTime());
+        cache.put(digest(verifiedToken.getToken()), cached);
+    }
+
+    /**
+     * Removes the given token from the cache.
+     *
+     * @param token the raw JWT token
+     */
+    public void invalidate(String token) {
+        cache.invalidate(digest(token));
+    }
+
+    /**
+     * Returns the number of lookups that found a cached authentication.
+     *
+     * @return the hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached authentication.
+     *
+     * @return the miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache reached its size bound.
+     *
+     * @return the eviction count
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Authentication resolved for a cached token, together with the ID of that token.
+     */
+    public static final class CachedAuthentication {
+
+        private final Authentication authentication;
+        private final String tokenId;
+        private final long expiresAtMillis;
+
+        private CachedAuthentication(Authentication authentication, String tokenId, long expiresAtMillis) {
+            this.authentication = authentication;
+            this.tokenId = tokenId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        /**
+         * Returns the authentication resolved for the token.
+         *
+         * @return the authentication
+         */
+        public Authentication getAuthentication() {
+            return authentication;
+        }
+
+        /**
+         * Returns the ID ({@code jti}) of the token.
+         *
+         * @return the token ID, or null for tokens issued without one
+         */
+        public String getTokenId() {
+            return tokenId;
+        }
+    }
+
+    /**
+     * Expires each entry at the {@code exp} claim of its token.
+     */
+    private static final class TokenExpiry implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
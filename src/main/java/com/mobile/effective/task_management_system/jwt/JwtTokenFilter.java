@@ -1,5 +1,6 @@
 package com.mobile.effective.task_management_system.jwt;
 
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,33 +9,56 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import jakarta.servlet.Filter;
-import jakarta.servlet.FilterConfig;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.regex.Pattern;
 
 /**
  * A filter that handles authentication based on JWT tokens.
  * This filter checks for the presence and validity of a JWT token in requests and sets the authentication in the security context.
+ * The token is parsed and verified only once per request, and the filter itself runs only once per request,
+ * even on forwards and error dispatches. Authentications resolved for recently seen tokens are taken
+ * from the {@link JwtAuthenticationCache} without verifying the token again. Revoked tokens are rejected
+ * through the {@link TokenRevocationService}, which only queries the database on a possible match.
  */
-public class JwtTokenFilter implements Filter {
+public class JwtTokenFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenFilter.class);
 
+    /**
+     * Path prefixes of Swagger UI and related resources that bypass JWT authentication.
+     */
+    private static final Pattern SWAGGER_PATHS =
+            Pattern.compile("^(?:/swagger-ui\\.html|/v3/api-docs/|/swagger-resources/|/webjars/)");
+
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache authenticationCache;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Constructor for creating an instance of the JWT token filter.
      *
-     * @param jwtTokenProvider the JWT token provider used for token operations
+     * @param jwtTokenProvider       the JWT token provider used for token operations
+     * @param authenticationCache    the cache of authentications resolved from verified tokens
+     * @param tokenRevocationService the service used to reject revoked tokens
      */
-    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtTokenFilter(JwtTokenProvider jwtTokenProvider, JwtAuthenticationCache authenticationCache,
+                          TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.authenticationCache = authenticationCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
+    /**
+     * Skips the requests to Swagger UI and related resources.
+     *
+     * @param request the HTTP request
+     * @return true if the request targets Swagger resources
+     */
     @Override
-    public void init(FilterConfig filterConfig) throws ServletException {
-        // Initialize resources if needed
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return SWAGGER_PATHS.matcher(request.getRequestURI()).lookingAt();
     }
 
     /**
@@ -48,40 +72,39 @@ public class JwtTokenFilter implements Filter {
      * @throws ServletException in case of a servlet error
      */
     @Override
-    public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response, FilterChain chain)
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws IOException, ServletException {
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
         try {
-            String path = httpRequest.getRequestURI();
+            logger.debug("Request URI: {}", request.getRequestURI());
 
-            logger.debug("Request URI: {}", path);
-
-            // Skip the requests to Swagger UI and related resources
-            if (path.startsWith("/swagger-ui.html") ||
-                    path.startsWith("/v3/api-docs/") ||
-                    path.startsWith("/swagger-resources/") ||
-                    path.startsWith("/webjars/")) {
-                logger.debug("Allowing access to Swagger UI resources");
-                chain.doFilter(request, response);
-                return;
+            String token = jwtTokenProvider.resolveToken(request);
+            if (token != null) {
+                Authentication authentication = resolveAuthentication(token);
+                if (authentication != null) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                }
             }
-
-            String token = jwtTokenProvider.resolveToken(httpRequest);
-            if (token != null && jwtTokenProvider.validateToken(token)) {
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-            }
-
-            chain.doFilter(request, response);
         } catch (Exception e) {
             logger.error("Error occurred during JWT authentication filter", e);
-            httpResponse.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Unauthorized");
+            return;
         }
+
+        chain.doFilter(request, response);
     }
 
-    @Override
-    public void destroy() {
-        // Clean up resources if needed
+    private Authentication resolveAuthentication(String token) {
+        JwtAuthenticationCache.CachedAuthentication cached = authenticationCache.get(token);
+        if (cached != null) {
+            return tokenRevocationService.isRevoked(cached.getTokenId()) ? null : cached.getAuthentication();
+        }
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token);
+        if (verifiedToken == null || tokenRevocationService.isRevoked(verifiedToken.getId())) {
+            return null;
+        }
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+        authenticationCache.put(verifiedToken, authentication);
+        return authentication;
     }
 }
@@ -7,6 +7,7 @@ import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,11 +15,19 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.security.Key;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * Utility class for handling JWT tokens.
@@ -30,14 +39,29 @@ public class JwtTokenProvider {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtTokenProvider.class);
 
+    /**
+     * Claim holding the ID of the user.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the authorities granted to the user.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
     @Value("${jwt.secret}")
     private String secretKey;
 
     @Value("${jwt.expiration}")
     private long validityInMilliseconds; // 1 hour
 
+    @Value("${jwt.stateless-authentication:true}")
+    private boolean statelessAuthentication;
+
     private final UserDetailsService userDetailsService;
 
+    private Key signingKey;
+
     /**
      * Constructs a JwtTokenProvider with the given UserDetailsService.
      *
@@ -47,6 +71,17 @@ public class JwtTokenProvider {
         this.userDetailsService = userDetailsService;
     }
 
+    /**
+     * Builds the HMAC signing key once from the configured secret.
+     * The secret is Base64-decoded, exactly as the string-key variant of the JWT library does,
+     * so tokens issued before this change remain valid.
+     */
+    @PostConstruct
+    public void init() {
+        byte[] keyBytes = Base64.getDecoder().decode(secretKey);
+        signingKey = new SecretKeySpec(keyBytes, SignatureAlgorithm.HS256.getJcaName());
+    }
+
     /**
      * Creates a JWT token for the given username.
      *
@@ -55,14 +90,36 @@ public class JwtTokenProvider {
      */
     public String createToken(String username) {
         Claims claims = Jwts.claims().setSubject(username);
+        return signClaims(claims);
+    }
+
+    /**
+     * Creates a JWT token carrying the user ID and authorities as claims.
+     * The subject of the token is the username (email) of the user.
+     * Such a token allows the authentication to be built without a database lookup.
+     *
+     * @param userId   the ID of the user
+     * @param username the username (email) for which to create the token
+     * @param roles    the authorities granted to the user, e.g. {@code ROLE_USER}
+     * @return the created JWT token
+     */
+    public String createToken(Long userId, String username, Collection<String> roles) {
+        Claims claims = Jwts.claims().setSubject(username);
+        claims.put(USER_ID_CLAIM, userId);
+        claims.put(ROLES_CLAIM, List.copyOf(roles));
+        return signClaims(claims);
+    }
+
+    private String signClaims(Claims claims) {
         Date now = new Date();
         Date validity = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .signWith(SignatureAlgorithm.HS256, signingKey)
                 .compact();
     }
 
@@ -73,11 +130,7 @@ public class JwtTokenProvider {
      * @return the username extracted from the token
      */
     public String getUsername(String token) {
-        Claims claims = Jwts.parser()
-                .setSigningKey(secretKey)
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getSubject();
+        return parseClaims(token).getSubject();
     }
 
     /**
@@ -87,27 +140,45 @@ public class JwtTokenProvider {
      * @return true if the token is valid, false otherwise
      */
     public boolean validateToken(String token) {
+        return verifyToken(token) != null;
+    }
+
+    /**
+     * Verifies the signature and expiration of the given JWT token in a single parse.
+     * The returned object carries the claims, so no further parsing is needed to
+     * build the authentication.
+     *
+     * @param token the JWT token
+     * @return the verified token, or null if the token is invalid
+     */
+    public VerifiedToken verifyToken(String token) {
         try {
-            Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token);
-            return true;
+            return new VerifiedToken(token, parseClaims(token));
         } catch (ExpiredJwtException e) {
             logger.warn("JWT token expired");
-            return false;
+            return null;
         } catch (UnsupportedJwtException e) {
             logger.warn("Unsupported JWT token");
-            return false;
+            return null;
         } catch (MalformedJwtException e) {
             logger.warn("Malformed JWT token");
-            return false;
+            return null;
         } catch (SignatureException e) {
             logger.warn("Invalid JWT signature");
-            return false;
+            return null;
         } catch (IllegalArgumentException e) {
             logger.warn("JWT claims string is empty");
-            return false;
+            return null;
         }
     }
 
+    private Claims parseClaims(String token) {
+        return Jwts.parser()
+                .setSigningKey(signingKey)
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
     /**
      * Extracts the JWT token from the HTTP request.
      *
@@ -129,7 +200,43 @@ public class JwtTokenProvider {
      * @return the authentication information
      */
     public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
+        return loadAuthentication(getUsername(token));
+    }
+
+    /**
+     * Retrieves authentication information for an already verified JWT token.
+     * When stateless authentication is enabled and the token carries the user ID and roles,
+     * the authentication is built from the claims alone; otherwise the user is loaded
+     * through the UserDetailsService.
+     *
+     * @param verifiedToken the verified token
+     * @return the authentication information
+     */
+    public Authentication getAuthentication(VerifiedToken verifiedToken) {
+        if (statelessAuthentication) {
+            Authentication authentication = buildAuthentication(verifiedToken.getClaims());
+            if (authentication != null) {
+                return authentication;
+            }
+        }
+        return loadAuthentication(verifiedToken.getUsername());
+    }
+
+    private Authentication buildAuthentication(Claims claims) {
+        Object userId = claims.get(USER_ID_CLAIM);
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(userId instanceof Number) || !(roles instanceof Collection<?> roleNames)) {
+            return null;
+        }
+
+        List<GrantedAuthority> authorities = roleNames.stream()
+                .map(role -> (GrantedAuthority) new SimpleGrantedAuthority(role.toString()))
+                .toList();
+        JwtUserPrincipal principal = new JwtUserPrincipal(((Number) userId).longValue(), claims.getSubject(), authorities);
+        return new JwtAuthenticationToken(principal, authorities);
+    }
+
+    private Authentication loadAuthentication(String username) {
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
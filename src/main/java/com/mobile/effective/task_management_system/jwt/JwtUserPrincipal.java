@@ -0,0 +1,74 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Principal built entirely from the claims of a verified JWT token.
+ * It carries the user ID, email and authorities, so an authenticated request
+ * does not need to load the user from the database.
+ */
+public class JwtUserPrincipal implements UserDetails {
+
+    private final Long id;
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Constructs a JwtUserPrincipal with the specified user ID, username and authorities.
+     *
+     * @param id          the ID of the user
+     * @param username    the username (email) of the user
+     * @param authorities the authorities granted to the user
+     */
+    public JwtUserPrincipal(Long id, String username, List<GrantedAuthority> authorities) {
+        this.id = id;
+        this.username = username;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Returns the ID of the user.
+     *
+     * @return the user ID
+     */
+    public Long getId() {
+        return id;
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The password is never part of the token, so it is not available.
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return username;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        JwtUserPrincipal that = (JwtUserPrincipal) obj;
+        return Objects.equals(id, that.id) && username.equals(that.username);
+    }
+
+    @Override
+    public int hashCode() {
+        return username.hashCode();
+    }
+}
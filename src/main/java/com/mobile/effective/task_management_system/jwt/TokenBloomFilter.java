@@ -0,0 +1,118 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over token IDs.
+ * A negative answer from {@link #mightContain(String)} is definite, while a positive answer
+ * has to be confirmed elsewhere, with a false-positive probability close to the one
+ * the filter was sized for.
+ */
+public class TokenBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs a Bloom filter sized for the given number of elements and false-positive rate.
+     *
+     * @param expectedInsertions the number of elements the filter is expected to hold
+     * @param falsePositiveRate  the desired false-positive probability, between 0 and 1
+     */
+    public TokenBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False-positive rate must be between 0 and 1: " + falsePositiveRate);
+        }
+        long insertions = Math.max(expectedInsertions, 1);
+        long optimalBits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitCount = Math.max(Long.SIZE, (optimalBits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * LN2));
+        this.bits = new AtomicLongArray((int) (bitCount / Long.SIZE));
+    }
+
+    /**
+     * Adds the given token ID to the filter.
+     *
+     * @param tokenId the token ID
+     */
+    public void put(String tokenId) {
+        long hash = hash(tokenId);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(hash1 + i * hash2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * Checks whether the given token ID might have been added to the filter.
+     *
+     * @param tokenId the token ID
+     * @return false if the token ID was definitely never added, true if it possibly was
+     */
+    public boolean mightContain(String tokenId) {
+        long hash = hash(tokenId);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(hash1 + i * hash2);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the size of the filter in bits.
+     *
+     * @return the number of bits
+     */
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    /**
+     * Returns the number of hash functions applied to each element.
+     *
+     * @return the number of hash functions
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private long bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * 64-bit FNV-1a hash finished with the MurmurHash3 mixing step; its two halves
+     * seed the double hashing scheme.
+     */
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
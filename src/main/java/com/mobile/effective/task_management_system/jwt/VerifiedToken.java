@@ -0,0 +1,72 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.util.Date;
+
+/**
+ * Result of a successful JWT verification.
+ * Holds the claims of a token whose signature and expiration have already been checked,
+ * so callers can read them without parsing the token again.
+ */
+public final class VerifiedToken {
+
+    private final String token;
+    private final Claims claims;
+
+    /**
+     * Constructs a VerifiedToken for the given raw token and its verified claims.
+     *
+     * @param token  the raw compact JWT
+     * @param claims the claims extracted from the token
+     */
+    public VerifiedToken(String token, Claims claims) {
+        this.token = token;
+        this.claims = claims;
+    }
+
+    /**
+     * Returns the raw compact JWT.
+     *
+     * @return the token string
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Returns all verified claims of the token.
+     *
+     * @return the token claims
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * Returns the unique ID ({@code jti}) of the token.
+     *
+     * @return the token ID, or null for tokens issued without one
+     */
+    public String getId() {
+        return claims.getId();
+    }
+
+    /**
+     * Returns the subject (username) of the token.
+     *
+     * @return the username stored in the token
+     */
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    /**
+     * Returns the expiration date of the token.
+     *
+     * @return the expiration date, or null if the token does not expire
+     */
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+}
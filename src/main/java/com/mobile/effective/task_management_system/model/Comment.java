@@ -16,9 +16,11 @@ public class Comment {
 
     /**
      * Unique identifier for the comment.
+     * Allocated from the {@code comment_seq} sequence in blocks of 50, so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_id_generator")
+    @SequenceGenerator(name = "comment_id_generator", sequenceName = "comment_seq", allocationSize = 50)
     @Schema(description = "ID комментария", example = "1")
     private Long id;
 
@@ -32,7 +34,7 @@ public class Comment {
     /**
      * The task to which this comment belongs.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "task_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "FK_comment_task"))
     @Schema(description = "Задача, к которой принадлежит комментарий")
     private Task task;
@@ -40,7 +42,7 @@ public class Comment {
     /**
      * The user who authored the comment.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "FK_comment_author"))
     @Schema(description = "Автор комментария")
     private User author;
@@ -0,0 +1,40 @@
+package com.mobile.effective.task_management_system.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * Represents a revoked JWT token.
+ * A token is identified by its {@code jti} claim and stays revoked until it expires.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "revoked_token")
+public class RevokedToken {
+
+    /**
+     * Unique identifier ({@code jti} claim) of the revoked token.
+     */
+    @Id
+    @Column(length = 36)
+    private String jti;
+
+    /**
+     * Moment when the token expires; after it the revocation record is no longer needed.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    /**
+     * Moment when the token was revoked.
+     */
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
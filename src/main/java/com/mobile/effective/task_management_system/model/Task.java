@@ -5,22 +5,35 @@ import com.mobile.effective.task_management_system.model.enums.TaskStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.SQLRestriction;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
  * Represents a task in the task management system.
+ * Tasks are kept in the {@code task} region of the second-level cache; statements that change tasks
+ * outside of Hibernate evict the changed tasks from it.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "task")
 @Getter
 @Setter
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@SQLRestriction("deleted = false")
 @Schema(description = "Модель задачи")
 public class Task {
 
     /**
      * Unique identifier for the task.
+     * Allocated from the {@code task_seq} sequence in blocks of 50, so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_id_generator")
+    @SequenceGenerator(name = "task_id_generator", sequenceName = "task_seq", allocationSize = 50)
     @Schema(description = "ID задачи", example = "1")
     private Long id;
 
@@ -56,7 +69,7 @@ public class Task {
     /**
      * The user who created the task.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "FK_task_author"))
     @Schema(description = "Автор задачи")
     private User author;
@@ -64,8 +77,26 @@ public class Task {
     /**
      * The user who is assigned to the task.
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assignee_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "FK_task_assignee"))
     @Schema(description = "Исполнитель задачи")
     private User assignee;
+
+    /**
+     * Version of the task, incremented on every update.
+     * Checked on update to detect lost updates and exposed to clients as the ETag of the task.
+     */
+    @Version
+    @Column(nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Версия задачи", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
+    /**
+     * Whether the task has been deleted and is waiting to be purged with its comments.
+     * Deleted tasks are excluded from every query on the entity.
+     */
+    @Column(nullable = false)
+    @JsonIgnore
+    private boolean deleted;
 }
@@ -0,0 +1,32 @@
+package com.mobile.effective.task_management_system.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Number of tasks a user has in one role, status and priority.
+ * Counters are maintained in the same transaction as the tasks they count, so dashboards read
+ * a handful of rows instead of counting tasks.
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "task_counters")
+public class TaskCounter {
+
+    /**
+     * User, role, status and priority the counter is kept for.
+     */
+    @EmbeddedId
+    private TaskCounterId id;
+
+    /**
+     * Number of matching tasks.
+     */
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+}
@@ -0,0 +1,53 @@
+package com.mobile.effective.task_management_system.model;
+
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskRole;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Key of a {@link TaskCounter}: a user, their role in the counted tasks, and the status and priority of those tasks.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class TaskCounterId implements Serializable {
+
+    /**
+     * ID of the user the tasks belong to.
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * Role of the user in the counted tasks.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TaskRole role;
+
+    /**
+     * Status of the counted tasks.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskStatus status;
+
+    /**
+     * Priority of the counted tasks.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+}
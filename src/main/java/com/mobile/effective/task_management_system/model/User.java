@@ -3,6 +3,11 @@ package com.mobile.effective.task_management_system.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
@@ -11,10 +16,15 @@ import jakarta.validation.constraints.Size;
 /**
  * Represents a user in the task management system.
  * This entity holds information about a user, including their email, password, and name.
+ * Users are kept in the {@code user} region of the second-level cache, and their IDs by email
+ * in the {@code user-email} natural-id region.
  */
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-email")
 @Getter
 @Setter
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Table(name = "\"user\"")
 @Schema(description = "Модель пользователя")
 public class User {
@@ -22,9 +32,11 @@ public class User {
     /**
      * Unique identifier for the user.
      * This field is auto-generated and serves as the primary key for the user entity.
+     * It is allocated from the {@code user_seq} sequence in blocks of 50, so inserts can be batched.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_id_generator")
+    @SequenceGenerator(name = "user_id_generator", sequenceName = "user_seq", allocationSize = 50)
     @Schema(description = "ID пользователя", example = "1")
     private Long id;
 
@@ -32,6 +44,7 @@ public class User {
      * Email of the user, must be unique and not empty.
      * The email should follow the standard email format.
      */
+    @NaturalId
     @Email(message = "Email должен быть корректным")
     @NotEmpty(message = "Email не может быть пустым")
     @Column(unique = true, nullable = false)
@@ -0,0 +1,11 @@
+package com.mobile.effective.task_management_system.model.enums;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Роль пользователя в задаче")
+public enum TaskRole {
+    @Schema(description = "Автор задачи")
+    AUTHOR,
+    @Schema(description = "Исполнитель задачи")
+    ASSIGNEE
+}
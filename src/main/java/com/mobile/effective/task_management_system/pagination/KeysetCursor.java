@@ -0,0 +1,108 @@
+package com.mobile.effective.task_management_system.pagination;
+
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a task listing, encoded for clients as an opaque string.
+ * A cursor holds the sort key of the last task of a page, so the next page
+ * can be read by seeking past it instead of skipping rows with an offset.
+ */
+public final class KeysetCursor {
+
+    private final TaskSeekOrder order;
+    private final TaskPriority priority;
+    private final long id;
+
+    private KeysetCursor(TaskSeekOrder order, TaskPriority priority, long id) {
+        this.order = order;
+        this.priority = priority;
+        this.id = id;
+    }
+
+    /**
+     * Creates a cursor positioned after the task with the given ID, in ID order.
+     *
+     * @param id the ID of the last task of a page
+     * @return the cursor
+     */
+    public static KeysetCursor afterId(long id) {
+        return new KeysetCursor(TaskSeekOrder.ID, null, id);
+    }
+
+    /**
+     * Creates a cursor positioned after the given task, in priority order.
+     *
+     * @param priority the priority of the last task of a page
+     * @param id       the ID of the last task of a page
+     * @return the cursor
+     */
+    public static KeysetCursor afterPriority(TaskPriority priority, long id) {
+        return new KeysetCursor(TaskSeekOrder.PRIORITY, priority, id);
+    }
+
+    /**
+     * Decodes a cursor previously returned to a client.
+     *
+     * @param value the encoded cursor
+     * @param order the order of the listing the cursor is used with
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the value is not a valid cursor for the given order
+     */
+    public static KeysetCursor decode(String value, TaskSeekOrder order) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(":");
+            TaskSeekOrder cursorOrder = TaskSeekOrder.valueOf(parts[0]);
+            if (cursorOrder == order && order == TaskSeekOrder.ID && parts.length == 2) {
+                return afterId(Long.parseLong(parts[1]));
+            }
+            if (cursorOrder == order && order == TaskSeekOrder.PRIORITY && parts.length == 3) {
+                return afterPriority(TaskPriority.valueOf(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + value);
+    }
+
+    /**
+     * Decodes a cursor of a listing ordered by ID only.
+     *
+     * @param value the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the value is not a valid cursor in ID order
+     */
+    public static KeysetCursor decodeId(String value) {
+        return decode(value, TaskSeekOrder.ID);
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String value = order == TaskSeekOrder.ID ? order + ":" + id : order + ":" + priority + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the priority of the last task before the cursor.
+     *
+     * @return the priority, or null for cursors in ID order
+     */
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns the ID of the last task before the cursor.
+     *
+     * @return the task ID
+     */
+    public long getId() {
+        return id;
+    }
+}
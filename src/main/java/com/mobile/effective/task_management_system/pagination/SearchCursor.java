@@ -0,0 +1,81 @@
+package com.mobile.effective.task_management_system.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position in a list of search results, encoded for clients as an opaque string.
+ * Results are ordered by relevance, highest first, then by ascending ID; a cursor holds
+ * the rank and ID of the last result of a page, so the next page seeks past it.
+ */
+public final class SearchCursor {
+
+    private static final String PREFIX = "RANK";
+
+    private final float rank;
+    private final long id;
+
+    private SearchCursor(float rank, long id) {
+        this.rank = rank;
+        this.id = id;
+    }
+
+    /**
+     * Creates a cursor positioned after the given search result.
+     *
+     * @param rank the rank of the last result of a page
+     * @param id   the ID of the last task of a page
+     * @return the cursor
+     */
+    public static SearchCursor after(float rank, long id) {
+        return new SearchCursor(rank, id);
+    }
+
+    /**
+     * Decodes a cursor previously returned to a client.
+     *
+     * @param value the encoded cursor
+     * @return the decoded cursor
+     * @throws IllegalArgumentException if the value is not a valid search cursor
+     */
+    public static SearchCursor decode(String value) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(":");
+            if (parts.length == 3 && PREFIX.equals(parts[0])) {
+                return after(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + value, e);
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + value);
+    }
+
+    /**
+     * Encodes the cursor as an opaque URL-safe string.
+     * The rank is written in its shortest exact form, so it compares equal to the stored rank when decoded.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String value = PREFIX + ":" + rank + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns the rank of the last result before the cursor.
+     *
+     * @return the rank
+     */
+    public float getRank() {
+        return rank;
+    }
+
+    /**
+     * Returns the ID of the last task before the cursor.
+     *
+     * @return the task ID
+     */
+    public long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,14 @@
+package com.mobile.effective.task_management_system.pagination;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Orders in which task listings can be traversed with a cursor.
+ */
+@Schema(description = "Порядок обхода задач курсором")
+public enum TaskSeekOrder {
+    @Schema(description = "По возрастанию ID")
+    ID,
+    @Schema(description = "По приоритету (от высокого к низкому), затем по возрастанию ID")
+    PRIORITY
+}
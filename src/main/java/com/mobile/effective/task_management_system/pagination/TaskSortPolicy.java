@@ -0,0 +1,150 @@
+package com.mobile.effective.task_management_system.pagination;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sort policy of the offset-based task listings.
+ * Besides the default ID order, only orderings that one of the task indexes returns without sorting are
+ * accepted. An index of the form {@code (columns..., id)} returns its rows in that order, in either direction;
+ * the columns the listing filters by equality are constant among the returned rows, so they drop out of the
+ * order. A requested ordering is therefore accepted if an index covers every filtered column and, once the
+ * filtered columns are left out, its keys before {@code id} are exactly the remaining columns of that index.
+ * For example, {@code priority} is accepted within an author through {@code (author_id, priority, id)},
+ * but not across all tasks, where no index leads with it.
+ * All keys must share one direction, and {@code id} is appended as the last key in that direction,
+ * so pages are stable; keys after {@code id} are dropped, as {@code id} is unique.
+ * Case-insensitive and null-handling hints are dropped, since they would turn the ordering into an expression
+ * that no index covers.
+ */
+public final class TaskSortPolicy {
+
+    /**
+     * Property of the task author, for listings filtered by author.
+     */
+    public static final String AUTHOR = "author";
+
+    /**
+     * Property of the task assignee, for listings filtered by assignee.
+     */
+    public static final String ASSIGNEE = "assignee";
+
+    /**
+     * Property of the task status, for listings filtered by status.
+     */
+    public static final String STATUS = "status";
+
+    /**
+     * Property of the task priority, for listings filtered by priority.
+     */
+    public static final String PRIORITY = "priority";
+
+    /**
+     * Sort keys accepted from clients, mapped to the entity properties they order by.
+     */
+    private static final Map<String, String> SORT_KEYS = Map.of(
+            "id", "id",
+            "priority", PRIORITY,
+            "status", STATUS);
+
+    private static final String TIE_BREAKER = "id";
+
+    /**
+     * Leading columns of the task indexes, each followed by {@code id}.
+     * Must match the indexes created by the Liquibase changelogs.
+     */
+    private static final List<List<String>> INDEXES = List.of(
+            List.of(AUTHOR),
+            List.of(ASSIGNEE),
+            List.of(AUTHOR, PRIORITY),
+            List.of(ASSIGNEE, PRIORITY),
+            List.of(AUTHOR, STATUS),
+            List.of(ASSIGNEE, STATUS),
+            List.of(STATUS, PRIORITY));
+
+    private TaskSortPolicy() {
+    }
+
+    /**
+     * Returns the given page request with its sort replaced by the index-backed ordering.
+     * Requests without a sort are ordered by ascending ID.
+     *
+     * @param pageable           the page request from the client
+     * @param filteredProperties the properties the listing filters by equality, such as {@link #AUTHOR}
+     * @return the page request to run
+     * @throws IllegalArgumentException if the sort uses a key that is not allowed, uses a key twice,
+     *                                  mixes directions or is not served by an index for the given filter
+     */
+    public static Pageable apply(Pageable pageable, String... filteredProperties) {
+        if (pageable.isUnpaged()) {
+            throw new IllegalArgumentException("Task listings must be paged");
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                apply(pageable.getSort(), filteredProperties));
+    }
+
+    /**
+     * Maps the sort requested by a client to the index-backed ordering.
+     *
+     * @param sort               the sort from the client
+     * @param filteredProperties the properties the listing filters by equality, such as {@link #AUTHOR}
+     * @return the ordering to run, always ending with {@code id}
+     * @throws IllegalArgumentException if the sort uses a key that is not allowed, uses a key twice,
+     *                                  mixes directions or is not served by an index for the given filter
+     */
+    public static Sort apply(Sort sort, String... filteredProperties) {
+        List<Sort.Order> orders = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+        Sort.Direction direction = null;
+        for (Sort.Order order : sort) {
+            String property = SORT_KEYS.get(order.getProperty());
+            if (property == null) {
+                throw new IllegalArgumentException("Sorting by '" + order.getProperty() + "' is not supported; use one of "
+                        + String.join(", ", SORT_KEYS.keySet().stream().sorted().toList()));
+            }
+            if (!used.add(property)) {
+                throw new IllegalArgumentException("Sort key '" + order.getProperty() + "' is used more than once");
+            }
+            if (direction != null && direction != order.getDirection()) {
+                throw new IllegalArgumentException("All sort keys must use the same direction");
+            }
+            direction = order.getDirection();
+            orders.add(new Sort.Order(direction, property));
+            if (TIE_BREAKER.equals(property)) {
+                break;
+            }
+        }
+        if (!used.contains(TIE_BREAKER)) {
+            orders.add(new Sort.Order(direction == null ? Sort.Direction.ASC : direction, TIE_BREAKER));
+        }
+        requireIndex(orders, Set.of(filteredProperties));
+        return Sort.by(orders);
+    }
+
+    private static void requireIndex(List<Sort.Order> orders, Set<String> filtered) {
+        List<String> keys = orders.stream()
+                .map(Sort.Order::getProperty)
+                .filter(property -> !TIE_BREAKER.equals(property) && !filtered.contains(property))
+                .toList();
+        if (keys.isEmpty()) {
+            return;
+        }
+        for (List<String> index : INDEXES) {
+            if (index.containsAll(filtered)
+                    && index.stream().filter(column -> !filtered.contains(column)).toList().equals(keys)) {
+                return;
+            }
+        }
+        String filter = filtered.isEmpty() ? "all tasks" : "tasks filtered by "
+                + String.join(", ", filtered.stream().sorted().toList());
+        throw new IllegalArgumentException("Sorting " + filter + " by "
+                + String.join(", ", orders.stream().map(Sort.Order::getProperty).toList()) + " is not supported");
+    }
+}
@@ -0,0 +1,52 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Bulk import of comments through a PostgreSQL staging table.
+ * Comments refer to their task by the external reference given when the task was imported.
+ * All methods must be called in order within one transaction: the staging table
+ * is temporary and is dropped when the transaction ends.
+ */
+public interface CommentImportRepository {
+
+    /**
+     * Columns of a comment import file, in order.
+     */
+    List<String> COMMENT_IMPORT_COLUMNS = List.of("task_ref", "content", "author_email");
+
+    /**
+     * Creates the staging table and loads the given CSV into it with {@code COPY}.
+     * The CSV must start with a header row and contain the {@link #COMMENT_IMPORT_COLUMNS} in order.
+     *
+     * @param csv the CSV content
+     * @return the number of loaded rows
+     */
+    long copyIntoCommentStaging(Reader csv);
+
+    /**
+     * Validates the staged rows, resolves task references and author emails to IDs
+     * and marks the rows that cannot be imported.
+     *
+     * @return the number of rejected rows
+     */
+    long rejectInvalidCommentStagingRows();
+
+    /**
+     * Inserts the accepted staged rows into {@code comment}.
+     *
+     * @return the number of inserted comments
+     */
+    long mergeCommentStaging();
+
+    /**
+     * Returns the first rejected staged rows.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the rejected rows, in file order
+     */
+    List<ImportRowError> findCommentStagingErrors(int limit);
+}
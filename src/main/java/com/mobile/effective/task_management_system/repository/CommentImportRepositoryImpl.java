@@ -0,0 +1,88 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link CommentImportRepository} for PostgreSQL.
+ * The file is streamed into a temporary staging table with {@code COPY}, checked and resolved
+ * with a single set-based UPDATE, and merged into {@code comment} with one INSERT ... SELECT.
+ * Comment IDs are taken from {@code comment_seq} in pooled blocks, see {@link PooledSequences}.
+ */
+public class CommentImportRepositoryImpl implements CommentImportRepository {
+
+    private static final String STAGING_TABLE = "comment_import_staging";
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE " + STAGING_TABLE + " (" +
+            "row_no bigint GENERATED ALWAYS AS IDENTITY, " +
+            "task_ref text, content text, author_email text, " +
+            "task_id bigint, author_id bigint, comment_id bigint, error text" +
+            ") ON COMMIT DROP";
+
+    /**
+     * Resolves the task references and emails and sets the rejection reason of every row in one pass.
+     */
+    private static final String RESOLVE_AND_VALIDATE_SQL =
+            "UPDATE " + STAGING_TABLE + " s " +
+            "SET task_id = checked.task_id, author_id = checked.author_id, error = checked.error " +
+            "FROM (" +
+            "  SELECT t.row_no, ref.task_id, author.id AS author_id, CASE" +
+            "    WHEN t.content IS NULL OR btrim(t.content) = '' THEN 'Текст комментария не может быть пустым'" +
+            "    WHEN length(t.content) > 255 THEN 'Текст комментария длиннее 255 символов'" +
+            "    WHEN t.task_ref IS NULL THEN 'Не указан внешний ID задачи'" +
+            "    WHEN ref.task_id IS NULL THEN 'Неизвестная задача: ' || t.task_ref" +
+            "    WHEN author.id IS NULL AND author.matches > 1" +
+            "      THEN 'Email автора совпадает с несколькими пользователями: ' || t.author_email" +
+            "    WHEN t.author_email IS NOT NULL AND author.id IS NULL THEN 'Неизвестный автор: ' || t.author_email" +
+            "  END AS error" +
+            "  FROM " + STAGING_TABLE + " t" +
+            "  LEFT JOIN (task_import_ref ref JOIN task ON task.id = ref.task_id AND NOT task.deleted)" +
+            "    ON ref.ref = t.task_ref" +
+            "  " + StagingTables.joinUserByEmail("t.author_email", "author") +
+            ") checked " +
+            "WHERE s.row_no = checked.row_no";
+
+    private static final String INSERT_COMMENTS_SQL =
+            "INSERT INTO comment (id, content, task_id, author_id) " +
+            "SELECT comment_id, content, task_id, author_id " +
+            "FROM " + STAGING_TABLE + " WHERE error IS NULL ORDER BY row_no";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a CommentImportRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public CommentImportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long copyIntoCommentStaging(Reader csv) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        return StagingTables.copyCsv(jdbcTemplate, STAGING_TABLE, COMMENT_IMPORT_COLUMNS,
+                List.of("task_ref", "author_email"), csv);
+    }
+
+    @Override
+    public long rejectInvalidCommentStagingRows() {
+        jdbcTemplate.update(RESOLVE_AND_VALIDATE_SQL);
+        return StagingTables.countErrors(jdbcTemplate, STAGING_TABLE);
+    }
+
+    @Override
+    public long mergeCommentStaging() {
+        PooledSequences.assignIds(jdbcTemplate, STAGING_TABLE, "comment_id", "comment_seq");
+        return jdbcTemplate.update(INSERT_COMMENTS_SQL);
+    }
+
+    @Override
+    public List<ImportRowError> findCommentStagingErrors(int limit) {
+        return StagingTables.findErrors(jdbcTemplate, STAGING_TABLE, limit);
+    }
+}
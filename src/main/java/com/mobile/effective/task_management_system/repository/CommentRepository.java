@@ -1,21 +1,59 @@
 package com.mobile.effective.task_management_system.repository;
 
 import com.mobile.effective.task_management_system.model.Comment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 /**
  * Repository interface for managing {@link Comment} entities.
  */
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentImportRepository {
 
     /**
-     * Finds all comments associated with the specified task ID.
+     * Finds all comments associated with the specified task ID, unless the task is deleted.
+     * The comment authors and the task with its author and assignee are fetched in the same query.
      *
      * @param taskId the ID of the task
      * @return a list of comments related to the task
+     * @deprecated the result grows with the thread; use
+     * {@link #findByTaskIdAndIdGreaterThanOrderByIdAsc} or {@link #findByTaskIdAndIdLessThanOrderByIdDesc}
      */
-    List<Comment> findByTaskId(Long taskId);
+    @Deprecated
+    @EntityGraph(attributePaths = {"author", "task", "task.author", "task.assignee"})
+    @Query("select c from Comment c where c.task.id = :taskId and c.task.deleted = false")
+    List<Comment> findByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Finds the comments of the specified task that follow the given comment ID, oldest first,
+     * unless the task is deleted. Served by a seek on the {@code (task_id, id)} index.
+     *
+     * @param taskId the ID of the task
+     * @param id     the ID after which to start
+     * @param limit  the maximum number of comments to return
+     * @return the comments with a greater ID, in ascending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "task", "task.author", "task.assignee"})
+    @Query("select c from Comment c where c.task.id = :taskId and c.task.deleted = false and c.id > :id order by c.id asc")
+    List<Comment> findByTaskIdAndIdGreaterThanOrderByIdAsc(@Param("taskId") Long taskId, @Param("id") Long id,
+                                                           Limit limit);
+
+    /**
+     * Finds the comments of the specified task that precede the given comment ID, newest first,
+     * unless the task is deleted. Served by a backward seek on the {@code (task_id, id)} index.
+     *
+     * @param taskId the ID of the task
+     * @param id     the ID before which to start
+     * @param limit  the maximum number of comments to return
+     * @return the comments with a smaller ID, in descending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "task", "task.author", "task.assignee"})
+    @Query("select c from Comment c where c.task.id = :taskId and c.task.deleted = false and c.id < :id order by c.id desc")
+    List<Comment> findByTaskIdAndIdLessThanOrderByIdDesc(@Param("taskId") Long taskId, @Param("id") Long id,
+                                                         Limit limit);
 }
 
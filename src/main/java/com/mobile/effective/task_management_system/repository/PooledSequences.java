@@ -0,0 +1,83 @@
+package com.mobile.effective.task_management_system.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * Helpers for assigning IDs outside Hibernate from the pooled entity sequences.
+ * Each value returned by {@code nextval} is the upper bound of a block of {@link #BLOCK_SIZE} IDs,
+ * exactly as Hibernate's pooled optimizer reads it, so IDs assigned in SQL never collide
+ * with IDs assigned by the entity manager.
+ */
+final class PooledSequences {
+
+    /**
+     * Increment of the entity sequences; must match the allocation size of the entity IDs.
+     */
+    static final int BLOCK_SIZE = 50;
+
+    private PooledSequences() {
+    }
+
+    /**
+     * Reserves the given number of IDs from a sequence, in ascending order.
+     * A value not above {@link #BLOCK_SIZE} is the initial value of a fresh sequence; as an upper
+     * bound it would yield IDs below 1, and Hibernate reads it as the start of the block below
+     * the next value, so it is skipped and another block is taken instead.
+     *
+     * @param jdbcTemplate the JDBC template used to call the sequence
+     * @param sequence     the sequence to allocate from
+     * @param count        the number of IDs to reserve
+     * @return the reserved IDs
+     */
+    static Long[] allocateIds(JdbcTemplate jdbcTemplate, String sequence, int count) {
+        String sql = "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)";
+        Long[] ids = new Long[count];
+        int assigned = 0;
+        while (assigned < count) {
+            int blocks = (count - assigned + BLOCK_SIZE - 1) / BLOCK_SIZE;
+            List<Long> upperBounds = jdbcTemplate.queryForList(sql, Long.class, blocks);
+            for (long upperBound : upperBounds) {
+                if (upperBound <= BLOCK_SIZE) {
+                    continue;
+                }
+                for (int i = 0; i < BLOCK_SIZE && assigned < count; i++) {
+                    ids[assigned++] = upperBound - BLOCK_SIZE + 1 + i;
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Assigns IDs from the given sequence to the rows of a staging table that have no error,
+     * in {@code row_no} order.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     * @param stagingTable the staging table with {@code row_no} and {@code error} columns
+     * @param idColumn     the column receiving the IDs
+     * @param sequence     the sequence to allocate from
+     */
+    static void assignIds(JdbcTemplate jdbcTemplate, String stagingTable, String idColumn, String sequence) {
+        Integer accepted = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + stagingTable + " WHERE error IS NULL", Integer.class);
+        if (accepted == null || accepted == 0) {
+            return;
+        }
+        Long[] ids = allocateIds(jdbcTemplate, sequence, accepted);
+        String sql = "WITH accepted AS (" +
+                     "  SELECT row_no, row_number() OVER (ORDER BY row_no) AS n FROM " + stagingTable +
+                     "  WHERE error IS NULL" +
+                     ") " +
+                     "UPDATE " + stagingTable + " s SET " + idColumn + " = ids.id " +
+                     "FROM accepted JOIN unnest(?::bigint[]) WITH ORDINALITY AS ids(id, n) ON ids.n = accepted.n " +
+                     "WHERE s.row_no = accepted.row_no";
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", ids));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,35 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link RevokedToken} entities.
+ */
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    /**
+     * Finds the IDs of all revoked tokens that have not expired yet.
+     *
+     * @param now the current moment
+     * @return the IDs of revoked tokens that are still valid
+     */
+    @Query("select r.jti from RevokedToken r where r.expiresAt > :now")
+    List<String> findActiveTokenIds(@Param("now") Instant now);
+
+    /**
+     * Deletes revocation records of tokens that have already expired.
+     *
+     * @param now the current moment
+     * @return the number of deleted records
+     */
+    @Modifying
+    @Query("delete from RevokedToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -0,0 +1,106 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers shared by the import repositories for loading and reading PostgreSQL staging tables.
+ * Staging tables are temporary, dropped on commit, and carry a {@code row_no} identity column
+ * numbering the rows in file order and an {@code error} column holding the rejection reason.
+ */
+final class StagingTables {
+
+    private StagingTables() {
+    }
+
+    /**
+     * Streams the given CSV into a staging table with {@code COPY ... FROM STDIN}.
+     * Quoted empty values in the listed nullable columns are loaded as NULL, like unquoted ones.
+     *
+     * @param jdbcTemplate  the JDBC template whose connection runs the copy
+     * @param stagingTable  the staging table
+     * @param columns       the columns of the CSV, in order
+     * @param nullableTexts the columns in which an empty string means a missing value
+     * @param csv           the CSV content, starting with a header row
+     * @return the number of copied rows
+     */
+    static long copyCsv(JdbcTemplate jdbcTemplate, String stagingTable, List<String> columns,
+                        List<String> nullableTexts, Reader csv) {
+        String sql = "COPY " + stagingTable + " (" + String.join(", ", columns) + ") FROM STDIN " +
+                     "WITH (FORMAT csv, HEADER true, FORCE_NULL (" + String.join(", ", nullableTexts) + "))";
+        Long copied = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, csv);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    /**
+     * Counts the rejected rows of a staging table.
+     *
+     * @param jdbcTemplate the JDBC template
+     * @param stagingTable the staging table
+     * @return the number of rows with an error
+     */
+    static long countErrors(JdbcTemplate jdbcTemplate, String stagingTable) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + stagingTable + " WHERE error IS NOT NULL", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * Reads the first rejected rows of a staging table, in file order.
+     *
+     * @param jdbcTemplate the JDBC template
+     * @param stagingTable the staging table
+     * @param limit        the maximum number of rows to read
+     * @return the rejected rows
+     */
+    static List<ImportRowError> findErrors(JdbcTemplate jdbcTemplate, String stagingTable, int limit) {
+        return jdbcTemplate.query(
+                "SELECT row_no, error FROM " + stagingTable + " WHERE error IS NOT NULL ORDER BY row_no LIMIT ?",
+                (resultSet, rowNum) -> new ImportRowError(resultSet.getLong("row_no"), resultSet.getString("error")),
+                limit);
+    }
+
+    /**
+     * Renders a join resolving an email column of a staging table to one user, ignoring case.
+     * The joined {@code alias} has an {@code id} column and a {@code matches} column counting the users
+     * whose email equals the given one ignoring case. It yields exactly one row per staging row, so it
+     * never duplicates rows. Where several users match, the one with the exact email is taken; where none
+     * of them has it, {@code id} is NULL and {@code matches} is greater than one.
+     *
+     * @param emailColumn the qualified email column of the staging table, e.g. {@code t.author_email}
+     * @param alias       the alias of the resolved user
+     * @return the LEFT JOIN clause
+     */
+    static String joinUserByEmail(String emailColumn, String alias) {
+        return " LEFT JOIN LATERAL (" +
+               "SELECT coalesce(min(u.id) FILTER (WHERE u.email = " + emailColumn + ")," +
+               " CASE WHEN count(*) = 1 THEN min(u.id) END) AS id, count(*) AS matches " +
+               "FROM \"user\" u WHERE lower(u.email) = lower(" + emailColumn + ")) " + alias + " ON true";
+    }
+
+    /**
+     * Renders the names of the given enum constants as a SQL list of string literals.
+     * Enum names are identifiers, so they need no escaping.
+     *
+     * @param values the enum constants
+     * @return the literals, e.g. {@code 'LOW', 'HIGH'}
+     */
+    static String literals(Enum<?>[] values) {
+        return Arrays.stream(values).map(value -> "'" + value.name() + "'").collect(Collectors.joining(", "));
+    }
+}
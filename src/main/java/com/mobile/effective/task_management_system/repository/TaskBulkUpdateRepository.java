@@ -0,0 +1,49 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskSelection;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Set-based updates of many tasks, applied chunk by chunk in ID order.
+ * Each chunk is changed by a single statement; tasks that already have the requested value are skipped.
+ */
+public interface TaskBulkUpdateRepository {
+
+    /**
+     * Moves the next chunk of selected tasks to the given status.
+     *
+     * @param selection the selected tasks
+     * @param status    the new status
+     * @param afterId   the ID after which the chunk starts, the last ID of the previous chunk
+     * @param limit     the maximum number of tasks in the chunk
+     * @return the IDs of the changed tasks, the last changed ID and the counter changes
+     */
+    BulkUpdateChunk updateStatusChunk(TaskSelection selection, TaskStatus status, long afterId, int limit);
+
+    /**
+     * Assigns the next chunk of selected tasks to the given user.
+     *
+     * @param selection  the selected tasks
+     * @param assigneeId the ID of the new assignee, or null to unassign the tasks
+     * @param afterId    the ID after which the chunk starts, the last ID of the previous chunk
+     * @param limit      the maximum number of tasks in the chunk
+     * @return the IDs of the changed tasks, the last changed ID and the counter changes
+     */
+    BulkUpdateChunk reassignChunk(TaskSelection selection, Long assigneeId, long afterId, int limit);
+
+    /**
+     * Outcome of updating one chunk of tasks.
+     */
+    @Getter
+    @AllArgsConstructor
+    class BulkUpdateChunk {
+
+        private final List<Long> ids;
+        private final long lastId;
+        private final TaskCounterDeltas deltas;
+    }
+}
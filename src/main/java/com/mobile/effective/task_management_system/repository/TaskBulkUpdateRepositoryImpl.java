@@ -0,0 +1,133 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskSelection;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * JDBC implementation of {@link TaskBulkUpdateRepository} for PostgreSQL.
+ * A CTE locks the next chunk of selected tasks in ID order, and an {@code UPDATE ... FROM} that joins it
+ * changes them and returns their previous counted fields, so the counters can be moved without reading
+ * the tasks separately. The filter criteria match those of {@link TaskSpecifications#matching}.
+ */
+public class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+    private static final String CHUNK_SQL =
+            "WITH chunk AS (" +
+            "SELECT id, status, priority, assignee_id FROM task WHERE id > ? AND NOT deleted";
+
+    private static final String UPDATE_SQL =
+            " ORDER BY id LIMIT ? FOR UPDATE) " +
+            "UPDATE task t SET ";
+
+    private static final String RETURNING_SQL =
+            ", version = t.version + 1 " +
+            "FROM chunk WHERE t.id = chunk.id " +
+            "RETURNING t.id, t.author_id, t.status, t.priority, t.assignee_id, " +
+            "chunk.status AS previous_status, chunk.priority AS previous_priority, " +
+            "chunk.assignee_id AS previous_assignee_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskBulkUpdateRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskBulkUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public BulkUpdateChunk updateStatusChunk(TaskSelection selection, TaskStatus status, long afterId, int limit) {
+        return updateChunk(selection, " AND status <> ?", status.name(), "status = ?", status.name(), afterId, limit);
+    }
+
+    @Override
+    public BulkUpdateChunk reassignChunk(TaskSelection selection, Long assigneeId, long afterId, int limit) {
+        return updateChunk(selection, " AND assignee_id IS DISTINCT FROM CAST(? AS bigint)", assigneeId,
+                "assignee_id = CAST(? AS bigint)", assigneeId, afterId, limit);
+    }
+
+    private BulkUpdateChunk updateChunk(TaskSelection selection, String changedCondition, Object changedArg,
+                                        String assignment, Object assignmentArg, long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(CHUNK_SQL);
+        List<Object> args = new ArrayList<>();
+        args.add(afterId);
+        appendSelection(selection, sql, args);
+        sql.append(changedCondition);
+        args.add(changedArg);
+        sql.append(UPDATE_SQL).append(assignment).append(RETURNING_SQL);
+        args.add(limit);
+        args.add(assignmentArg);
+
+        TaskCounterDeltas deltas = new TaskCounterDeltas();
+        List<Long> ids = new ArrayList<>();
+        long[] lastId = {afterId};
+        jdbcTemplate.query(statement(sql.toString(), args), resultSet -> {
+            Long authorId = resultSet.getObject("author_id", Long.class);
+            deltas.add(authorId, resultSet.getObject("previous_assignee_id", Long.class),
+                            TaskStatus.valueOf(resultSet.getString("previous_status")),
+                            TaskPriority.valueOf(resultSet.getString("previous_priority")), -1)
+                    .add(authorId, resultSet.getObject("assignee_id", Long.class),
+                            TaskStatus.valueOf(resultSet.getString("status")),
+                            TaskPriority.valueOf(resultSet.getString("priority")), 1);
+            long id = resultSet.getLong("id");
+            ids.add(id);
+            lastId[0] = Math.max(lastId[0], id);
+        });
+        return new BulkUpdateChunk(ids, lastId[0], deltas);
+    }
+
+    private static void appendSelection(TaskSelection selection, StringBuilder sql, List<Object> args) {
+        if (selection.getIds() != null) {
+            sql.append(" AND id = ANY(?)");
+            args.add(selection.getIds().toArray(new Long[0]));
+            return;
+        }
+        TaskFilter filter = selection.getFilter();
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            args.add(filter.getStatus().name());
+        }
+        if (filter.getPriority() != null) {
+            sql.append(" AND priority = ?");
+            args.add(filter.getPriority().name());
+        }
+        if (filter.getAuthorId() != null) {
+            sql.append(" AND author_id = ?");
+            args.add(filter.getAuthorId());
+        }
+        if (filter.getAssigneeId() != null) {
+            sql.append(" AND assignee_id = ?");
+            args.add(filter.getAssigneeId());
+        }
+        if (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isEmpty()) {
+            sql.append(" AND lower(title) LIKE ? ESCAPE '\\'");
+            args.add(TaskSpecifications.escapeLike(filter.getTitlePrefix().toLowerCase(Locale.ROOT)) + "%");
+        }
+    }
+
+    private static PreparedStatementCreator statement(String sql, List<Object> args) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            for (int i = 0; i < args.size(); i++) {
+                Object arg = args.get(i);
+                if (arg instanceof Long[] ids) {
+                    statement.setArray(i + 1, connection.createArrayOf("bigint", ids));
+                } else {
+                    statement.setObject(i + 1, arg);
+                }
+            }
+            return statement;
+        };
+    }
+}
@@ -0,0 +1,92 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.TaskCounterId;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskRole;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Changes to the task counters collected while tasks are created, changed or deleted,
+ * applied at once with {@link TaskCounterUpdateRepository#applyDeltas(TaskCounterDeltas)}.
+ * Changes that cancel out, such as a task updated without changing its status, priority or users, are dropped.
+ */
+public class TaskCounterDeltas {
+
+    private final Map<TaskCounterId, Long> deltas = new HashMap<>();
+
+    /**
+     * Counts the given task for its author and assignee.
+     *
+     * @param task the created task
+     * @return this object
+     */
+    public TaskCounterDeltas add(Task task) {
+        return add(idOf(task.getAuthor()), idOf(task.getAssignee()), task.getStatus(), task.getPriority(), 1);
+    }
+
+    /**
+     * Stops counting the given task for its author and assignee.
+     *
+     * @param task the deleted task
+     * @return this object
+     */
+    public TaskCounterDeltas remove(Task task) {
+        return add(idOf(task.getAuthor()), idOf(task.getAssignee()), task.getStatus(), task.getPriority(), -1);
+    }
+
+    /**
+     * Adds the given number of tasks with the given author, assignee, status and priority.
+     * Tasks without an author or assignee are not counted for the missing user.
+     *
+     * @param authorId   the ID of the author, or null
+     * @param assigneeId the ID of the assignee, or null
+     * @param status     the status of the tasks
+     * @param priority   the priority of the tasks
+     * @param count      the number of tasks; negative when tasks are removed
+     * @return this object
+     */
+    public TaskCounterDeltas add(Long authorId, Long assigneeId, TaskStatus status, TaskPriority priority, long count) {
+        if (status == null || priority == null || count == 0) {
+            return this;
+        }
+        if (authorId != null) {
+            merge(new TaskCounterId(authorId, TaskRole.AUTHOR, status, priority), count);
+        }
+        if (assigneeId != null) {
+            merge(new TaskCounterId(assigneeId, TaskRole.ASSIGNEE, status, priority), count);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the collected non-zero changes.
+     *
+     * @return the change of each counter
+     */
+    public Map<TaskCounterId, Long> asMap() {
+        return Collections.unmodifiableMap(deltas);
+    }
+
+    /**
+     * Checks whether there is anything to apply.
+     *
+     * @return true if no counter changes
+     */
+    public boolean isEmpty() {
+        return deltas.isEmpty();
+    }
+
+    private void merge(TaskCounterId id, long count) {
+        deltas.merge(id, count, (current, added) -> current + added == 0 ? null : current + added);
+    }
+
+    private static Long idOf(User user) {
+        return user == null ? null : user.getId();
+    }
+}
@@ -0,0 +1,22 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.TaskCounter;
+import com.mobile.effective.task_management_system.model.TaskCounterId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link TaskCounter} entities.
+ */
+public interface TaskCounterRepository extends JpaRepository<TaskCounter, TaskCounterId>, TaskCounterUpdateRepository {
+
+    /**
+     * Finds all counters of the specified user.
+     * A user has at most one counter per role, status and priority, read with a seek on the primary key.
+     *
+     * @param userId the ID of the user
+     * @return the counters of the user
+     */
+    List<TaskCounter> findByIdUserId(Long userId);
+}
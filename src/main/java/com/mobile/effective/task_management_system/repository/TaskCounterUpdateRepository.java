@@ -0,0 +1,15 @@
+package com.mobile.effective.task_management_system.repository;
+
+/**
+ * Updates of the task counters that must not lose increments under concurrency.
+ */
+public interface TaskCounterUpdateRepository {
+
+    /**
+     * Adds the given changes to the counters, creating missing counters.
+     * Must run in the transaction that changes the counted tasks.
+     *
+     * @param deltas the changes to apply
+     */
+    void applyDeltas(TaskCounterDeltas deltas);
+}
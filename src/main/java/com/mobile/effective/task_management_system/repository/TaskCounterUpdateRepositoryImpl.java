@@ -0,0 +1,65 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.TaskCounterId;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC implementation of {@link TaskCounterUpdateRepository} for PostgreSQL.
+ * All changes are applied with one {@code INSERT ... ON CONFLICT DO UPDATE} that adds to the stored count,
+ * so concurrent transactions never overwrite each other's increments. Rows are written in key order,
+ * so two transactions touching the same counters lock them in the same order and cannot deadlock.
+ */
+public class TaskCounterUpdateRepositoryImpl implements TaskCounterUpdateRepository {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO task_counters (user_id, role, status, priority, task_count) " +
+            "SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::bigint[]) " +
+            "ORDER BY 1, 2, 3, 4 " +
+            "ON CONFLICT (user_id, role, status, priority) " +
+            "DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskCounterUpdateRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskCounterUpdateRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void applyDeltas(TaskCounterDeltas deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        List<String> roles = new ArrayList<>();
+        List<String> statuses = new ArrayList<>();
+        List<String> priorities = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        for (Map.Entry<TaskCounterId, Long> delta : deltas.asMap().entrySet()) {
+            TaskCounterId id = delta.getKey();
+            userIds.add(id.getUserId());
+            roles.add(id.getRole().name());
+            statuses.add(id.getStatus().name());
+            priorities.add(id.getPriority().name());
+            counts.add(delta.getValue());
+        }
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", userIds.toArray()));
+            statement.setArray(2, connection.createArrayOf("varchar", roles.toArray()));
+            statement.setArray(3, connection.createArrayOf("varchar", statuses.toArray()));
+            statement.setArray(4, connection.createArrayOf("varchar", priorities.toArray()));
+            statement.setArray(5, connection.createArrayOf("bigint", counts.toArray()));
+            return statement;
+        });
+    }
+}
@@ -0,0 +1,44 @@
+package com.mobile.effective.task_management_system.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Deletion of tasks in two steps: an instant soft delete, then a purge of the deleted tasks
+ * and their comments in small batches.
+ */
+public interface TaskDeletionRepository {
+
+    /**
+     * Marks a task as deleted with a single UPDATE and increments its version.
+     *
+     * @param taskId the ID of the task
+     * @return the counter changes that remove the task, or empty if no task with the ID exists
+     */
+    Optional<TaskCounterDeltas> softDeleteTask(Long taskId);
+
+    /**
+     * Finds the oldest deleted tasks waiting to be purged.
+     *
+     * @param limit the maximum number of IDs to return
+     * @return the IDs of deleted tasks, in ascending order
+     */
+    List<Long> findDeletedTaskIds(int limit);
+
+    /**
+     * Deletes at most {@code limit} comments of the given tasks.
+     *
+     * @param taskIds the IDs of the tasks
+     * @param limit   the maximum number of comments to delete
+     * @return the number of deleted comments
+     */
+    int deleteCommentsOfTasks(List<Long> taskIds, int limit);
+
+    /**
+     * Deletes the given deleted tasks that have no comments left.
+     *
+     * @param taskIds the IDs of the tasks
+     * @return the number of deleted tasks
+     */
+    int purgeTasks(List<Long> taskIds);
+}
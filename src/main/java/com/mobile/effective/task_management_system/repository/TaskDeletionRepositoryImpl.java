@@ -0,0 +1,83 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC implementation of {@link TaskDeletionRepository} for PostgreSQL.
+ * The purge statements pick their rows through the partial index on deleted tasks and the
+ * {@code comment (task_id, id)} index, and each touches at most one batch of rows.
+ */
+public class TaskDeletionRepositoryImpl implements TaskDeletionRepository {
+
+    private static final String SOFT_DELETE_SQL =
+            "UPDATE task SET deleted = true, version = version + 1 " +
+            "WHERE id = ? AND NOT deleted " +
+            "RETURNING author_id, assignee_id, status, priority";
+
+    private static final String FIND_DELETED_SQL =
+            "SELECT id FROM task WHERE deleted ORDER BY id LIMIT ?";
+
+    private static final String DELETE_COMMENTS_SQL =
+            "DELETE FROM comment WHERE id IN (" +
+            "SELECT id FROM comment WHERE task_id = ANY(?) LIMIT ?)";
+
+    private static final String PURGE_TASKS_SQL =
+            "DELETE FROM task t WHERE t.id = ANY(?) AND t.deleted " +
+            "AND NOT EXISTS (SELECT 1 FROM comment c WHERE c.task_id = t.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskDeletionRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskDeletionRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<TaskCounterDeltas> softDeleteTask(Long taskId) {
+        List<TaskCounterDeltas> deleted = jdbcTemplate.query(SOFT_DELETE_SQL, (resultSet, rowNum) ->
+                new TaskCounterDeltas().add(
+                        resultSet.getObject("author_id", Long.class),
+                        resultSet.getObject("assignee_id", Long.class),
+                        TaskStatus.valueOf(resultSet.getString("status")),
+                        TaskPriority.valueOf(resultSet.getString("priority")),
+                        -1), taskId);
+        return deleted.stream().findFirst();
+    }
+
+    @Override
+    public List<Long> findDeletedTaskIds(int limit) {
+        return jdbcTemplate.queryForList(FIND_DELETED_SQL, Long.class, limit);
+    }
+
+    @Override
+    public int deleteCommentsOfTasks(List<Long> taskIds, int limit) {
+        return jdbcTemplate.update(withIds(DELETE_COMMENTS_SQL, taskIds, limit));
+    }
+
+    @Override
+    public int purgeTasks(List<Long> taskIds) {
+        return jdbcTemplate.update(withIds(PURGE_TASKS_SQL, taskIds, null));
+    }
+
+    private static PreparedStatementCreator withIds(String sql, List<Long> ids, Integer limit) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            if (limit != null) {
+                statement.setInt(2, limit);
+            }
+            return statement;
+        };
+    }
+}
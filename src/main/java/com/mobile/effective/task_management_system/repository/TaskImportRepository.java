@@ -0,0 +1,53 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * Bulk import of tasks through a PostgreSQL staging table.
+ * All methods must be called in order within one transaction: the staging table
+ * is temporary and is dropped when the transaction ends.
+ */
+public interface TaskImportRepository {
+
+    /**
+     * Columns of a task import file, in order.
+     */
+    List<String> TASK_IMPORT_COLUMNS =
+            List.of("ref", "title", "description", "status", "priority", "author_email", "assignee_email");
+
+    /**
+     * Creates the staging table and loads the given CSV into it with {@code COPY}.
+     * The CSV must start with a header row and contain the {@link #TASK_IMPORT_COLUMNS} in order.
+     *
+     * @param csv the CSV content
+     * @return the number of loaded rows
+     */
+    long copyIntoTaskStaging(Reader csv);
+
+    /**
+     * Validates the staged rows, resolves author and assignee emails to user IDs
+     * and marks the rows that cannot be imported.
+     *
+     * @return the number of rejected rows
+     */
+    long rejectInvalidTaskStagingRows();
+
+    /**
+     * Inserts the accepted staged rows into {@code task}, records their external references
+     * and adds them to the task counters.
+     *
+     * @return the number of inserted tasks
+     */
+    long mergeTaskStaging();
+
+    /**
+     * Returns the first rejected staged rows.
+     *
+     * @param limit the maximum number of rows to return
+     * @return the rejected rows, in file order
+     */
+    List<ImportRowError> findTaskStagingErrors(int limit);
+}
@@ -0,0 +1,129 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.Reader;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link TaskImportRepository} for PostgreSQL.
+ * The file is streamed into a temporary staging table with {@code COPY}, checked and resolved
+ * with a single set-based UPDATE, and merged into {@code task} with one INSERT ... SELECT.
+ * Task IDs are taken from {@code task_seq} in pooled blocks, see {@link PooledSequences}.
+ */
+public class TaskImportRepositoryImpl implements TaskImportRepository {
+
+    private static final String STAGING_TABLE = "task_import_staging";
+
+    private static final String CREATE_STAGING_SQL =
+            "CREATE TEMP TABLE " + STAGING_TABLE + " (" +
+            "row_no bigint GENERATED ALWAYS AS IDENTITY, " +
+            "ref text, title text, description text, status text, priority text, " +
+            "author_email text, assignee_email text, " +
+            "author_id bigint, assignee_id bigint, task_id bigint, error text" +
+            ") ON COMMIT DROP";
+
+    /**
+     * Resolves the emails and sets the rejection reason of every row in one pass.
+     * The first failing check wins, so each rejected row reports a single reason.
+     * Each email resolves to at most one user, so every staging row appears once.
+     */
+    private static final String RESOLVE_AND_VALIDATE_SQL =
+            "UPDATE " + STAGING_TABLE + " s " +
+            "SET author_id = checked.author_id, assignee_id = checked.assignee_id, error = checked.error " +
+            "FROM (" +
+            "  SELECT t.row_no, author.id AS author_id, assignee.id AS assignee_id, CASE" +
+            "    WHEN t.title IS NULL OR btrim(t.title) = '' THEN 'Заголовок задачи не может быть пустым'" +
+            "    WHEN length(t.title) > 255 THEN 'Заголовок задачи длиннее 255 символов'" +
+            "    WHEN length(t.description) > 255 THEN 'Описание задачи длиннее 255 символов'" +
+            "    WHEN t.status IS NULL OR t.status NOT IN (" + StagingTables.literals(TaskStatus.values()) + ")" +
+            "      THEN 'Неизвестный статус задачи: ' || coalesce(t.status, '')" +
+            "    WHEN t.priority IS NULL OR t.priority NOT IN (" + StagingTables.literals(TaskPriority.values()) + ")" +
+            "      THEN 'Неизвестный приоритет задачи: ' || coalesce(t.priority, '')" +
+            "    WHEN author.id IS NULL AND author.matches > 1" +
+            "      THEN 'Email автора совпадает с несколькими пользователями: ' || t.author_email" +
+            "    WHEN t.author_email IS NOT NULL AND author.id IS NULL THEN 'Неизвестный автор: ' || t.author_email" +
+            "    WHEN assignee.id IS NULL AND assignee.matches > 1" +
+            "      THEN 'Email исполнителя совпадает с несколькими пользователями: ' || t.assignee_email" +
+            "    WHEN t.assignee_email IS NOT NULL AND assignee.id IS NULL" +
+            "      THEN 'Неизвестный исполнитель: ' || t.assignee_email" +
+            "    WHEN length(t.ref) > 255 THEN 'Внешний ID задачи длиннее 255 символов'" +
+            "    WHEN t.ref IS NOT NULL AND row_number() OVER (PARTITION BY t.ref ORDER BY t.row_no) > 1" +
+            "      THEN 'Внешний ID задачи повторяется в файле: ' || t.ref" +
+            "    WHEN EXISTS (SELECT 1 FROM task_import_ref r WHERE r.ref = t.ref)" +
+            "      THEN 'Задача с внешним ID уже импортирована: ' || t.ref" +
+            "  END AS error" +
+            "  FROM " + STAGING_TABLE + " t" +
+            "  " + StagingTables.joinUserByEmail("t.author_email", "author") +
+            "  " + StagingTables.joinUserByEmail("t.assignee_email", "assignee") +
+            ") checked " +
+            "WHERE s.row_no = checked.row_no";
+
+    private static final String INSERT_TASKS_SQL =
+            "INSERT INTO task (id, title, description, status, priority, author_id, assignee_id) " +
+            "SELECT task_id, title, description, status, priority, author_id, assignee_id " +
+            "FROM " + STAGING_TABLE + " WHERE error IS NULL ORDER BY row_no";
+
+    private static final String INSERT_REFS_SQL =
+            "INSERT INTO task_import_ref (ref, task_id) " +
+            "SELECT ref, task_id FROM " + STAGING_TABLE + " WHERE error IS NULL AND ref IS NOT NULL";
+
+    /**
+     * Adds the imported tasks to the counters of their authors and assignees, in key order like
+     * {@link TaskCounterUpdateRepositoryImpl}.
+     */
+    private static final String COUNT_TASKS_SQL =
+            "INSERT INTO task_counters (user_id, role, status, priority, task_count) " +
+            "SELECT user_id, role, status, priority, count(*) FROM (" +
+            "  SELECT author_id AS user_id, 'AUTHOR' AS role, status, priority FROM " + STAGING_TABLE +
+            "  WHERE error IS NULL AND author_id IS NOT NULL" +
+            "  UNION ALL" +
+            "  SELECT assignee_id, 'ASSIGNEE', status, priority FROM " + STAGING_TABLE +
+            "  WHERE error IS NULL AND assignee_id IS NOT NULL" +
+            ") imported " +
+            "GROUP BY user_id, role, status, priority " +
+            "ORDER BY user_id, role, status, priority " +
+            "ON CONFLICT (user_id, role, status, priority) " +
+            "DO UPDATE SET task_count = task_counters.task_count + EXCLUDED.task_count";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskImportRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskImportRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public long copyIntoTaskStaging(Reader csv) {
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        return StagingTables.copyCsv(jdbcTemplate, STAGING_TABLE, TASK_IMPORT_COLUMNS,
+                List.of("ref", "description", "author_email", "assignee_email"), csv);
+    }
+
+    @Override
+    public long rejectInvalidTaskStagingRows() {
+        jdbcTemplate.update(RESOLVE_AND_VALIDATE_SQL);
+        return StagingTables.countErrors(jdbcTemplate, STAGING_TABLE);
+    }
+
+    @Override
+    public long mergeTaskStaging() {
+        PooledSequences.assignIds(jdbcTemplate, STAGING_TABLE, "task_id", "task_seq");
+        int inserted = jdbcTemplate.update(INSERT_TASKS_SQL);
+        jdbcTemplate.update(INSERT_REFS_SQL);
+        jdbcTemplate.update(COUNT_TASKS_SQL);
+        return inserted;
+    }
+
+    @Override
+    public List<ImportRowError> findTaskStagingErrors(int limit) {
+        return StagingTables.findErrors(jdbcTemplate, STAGING_TABLE, limit);
+    }
+}
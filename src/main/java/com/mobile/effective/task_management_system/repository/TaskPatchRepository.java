@@ -0,0 +1,41 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Optional;
+
+/**
+ * Partial updates of tasks applied by a single statement, without loading the task first.
+ */
+public interface TaskPatchRepository {
+
+    /**
+     * Changes the fields present in the patch and increments the version of the task.
+     * The task is not in the persistence context afterwards; the returned task is detached.
+     *
+     * @param taskId          the ID of the task
+     * @param patch           the fields to change; must not be empty
+     * @param expectedVersion the version the task must be at, or null to update any version
+     * @return the task as updated together with its previous counted fields,
+     *         or empty if no task with the ID exists at the expected version
+     */
+    Optional<PatchedTask> patchTask(Long taskId, TaskPatch patch, Long expectedVersion);
+
+    /**
+     * Task after a partial update, with the fields that were counted before the update.
+     */
+    @Getter
+    @AllArgsConstructor
+    class PatchedTask {
+
+        private final Task task;
+        private final TaskStatus previousStatus;
+        private final TaskPriority previousPriority;
+        private final Long previousAssigneeId;
+    }
+}
@@ -0,0 +1,123 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+/**
+ * JDBC implementation of {@link TaskPatchRepository} for PostgreSQL.
+ * The row is locked and its previous counted fields are read in a CTE, only the present columns are set
+ * by an {@code UPDATE ... FROM} that joins that CTE, and the new row is returned with its author and
+ * assignee, all in one statement. A missing task or a stale version shows up as an empty result.
+ */
+public class TaskPatchRepositoryImpl implements TaskPatchRepository {
+
+    private static final String PREVIOUS_SQL =
+            "WITH previous AS (" +
+            "SELECT id, status, priority, assignee_id FROM task WHERE id = ? AND NOT deleted";
+
+    private static final String VERSION_CONDITION = " AND version = ?";
+
+    private static final String UPDATE_SQL =
+            " FOR UPDATE), " +
+            "patched AS (UPDATE task t SET ";
+
+    private static final String RETURNING_SQL =
+            "version = t.version + 1 " +
+            "FROM previous WHERE t.id = previous.id " +
+            "RETURNING t.id, t.title, t.description, t.status, t.priority, t.author_id, t.assignee_id, t.version, " +
+            "previous.status AS previous_status, previous.priority AS previous_priority, " +
+            "previous.assignee_id AS previous_assignee_id) " +
+            "SELECT p.*, a.email AS author_email, a.name AS author_name, " +
+            "s.email AS assignee_email, s.name AS assignee_name " +
+            "FROM patched p " +
+            "LEFT JOIN \"user\" a ON a.id = p.author_id " +
+            "LEFT JOIN \"user\" s ON s.id = p.assignee_id";
+
+    private static final RowMapper<PatchedTask> PATCHED_TASK_MAPPER = (resultSet, rowNum) -> {
+        Task task = new Task();
+        task.setId(resultSet.getLong("id"));
+        task.setTitle(resultSet.getString("title"));
+        task.setDescription(resultSet.getString("description"));
+        task.setStatus(TaskStatus.valueOf(resultSet.getString("status")));
+        task.setPriority(TaskPriority.valueOf(resultSet.getString("priority")));
+        task.setAuthor(user(resultSet, "author_id", "author_email", "author_name"));
+        task.setAssignee(user(resultSet, "assignee_id", "assignee_email", "assignee_name"));
+        task.setVersion(resultSet.getLong("version"));
+        return new PatchedTask(task,
+                TaskStatus.valueOf(resultSet.getString("previous_status")),
+                TaskPriority.valueOf(resultSet.getString("previous_priority")),
+                resultSet.getObject("previous_assignee_id", Long.class));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskPatchRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskPatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<PatchedTask> patchTask(Long taskId, TaskPatch patch, Long expectedVersion) {
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder(PREVIOUS_SQL);
+        args.add(taskId);
+        if (expectedVersion != null) {
+            sql.append(VERSION_CONDITION);
+            args.add(expectedVersion);
+        }
+        sql.append(UPDATE_SQL);
+        StringJoiner assignments = new StringJoiner(", ", "", ", ").setEmptyValue("");
+        if (patch.getTitle() != null) {
+            assignments.add("title = ?");
+            args.add(patch.getTitle());
+        }
+        if (patch.isDescriptionPresent()) {
+            assignments.add("description = ?");
+            args.add(patch.getDescription());
+        }
+        if (patch.getStatus() != null) {
+            assignments.add("status = ?");
+            args.add(patch.getStatus().name());
+        }
+        if (patch.getPriority() != null) {
+            assignments.add("priority = ?");
+            args.add(patch.getPriority().name());
+        }
+        if (patch.isAssigneeIdPresent()) {
+            assignments.add("assignee_id = ?");
+            args.add(patch.getAssigneeId());
+        }
+        sql.append(assignments).append(RETURNING_SQL);
+        List<PatchedTask> patched = jdbcTemplate.query(sql.toString(), PATCHED_TASK_MAPPER, args.toArray());
+        return patched.stream().findFirst();
+    }
+
+    private static User user(ResultSet resultSet, String idColumn, String emailColumn, String nameColumn)
+            throws SQLException {
+        Long id = resultSet.getObject(idColumn, Long.class);
+        if (id == null) {
+            return null;
+        }
+        User user = new User();
+        user.setId(id);
+        user.setEmail(resultSet.getString(emailColumn));
+        user.setName(resultSet.getString(nameColumn));
+        return user;
+    }
+}
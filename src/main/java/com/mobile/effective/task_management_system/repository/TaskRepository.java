@@ -1,14 +1,77 @@
 package com.mobile.effective.task_management_system.repository;
 
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing {@link Task} entities.
+ * The author and assignee of a task are loaded lazily; the finder methods fetch them
+ * in the same query through an entity graph, so a page of tasks costs a fixed number of queries.
  */
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>, TaskImportRepository,
+        TaskSearchRepository, TaskPatchRepository, TaskBulkUpdateRepository, TaskDeletionRepository {
+
+    /**
+     * Number of rows the JDBC driver fetches per round-trip while a task stream is read.
+     */
+    String EXPORT_FETCH_SIZE = "1000";
+
+    /**
+     * Finds a task by its ID together with its author and assignee.
+     *
+     * @param id the ID of the task
+     * @return an Optional containing the task if found, or empty if not found
+     */
+    @Override
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    Optional<Task> findById(Long id);
+
+    /**
+     * Finds the version of a task without loading the task itself.
+     * Used to answer conditional requests whose ETag is still current.
+     *
+     * @param id the ID of the task
+     * @return an Optional containing the version if the task exists, or empty if not found
+     */
+    @Query("select t.version from Task t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Finds the tasks with the given IDs together with their authors and assignees.
+     *
+     * @param ids the IDs of the tasks
+     * @return the tasks found, in no particular order
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    List<Task> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds the tasks matching the given specification together with their authors and assignees.
+     *
+     * @param spec     the specification the tasks must match, see {@link TaskSpecifications}
+     * @param pageable the pagination information
+     * @return a page of matching tasks
+     */
+    @Override
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
 
     /**
      * Finds tasks created by the specified author ID with pagination.
@@ -17,6 +80,7 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param pageable the pagination information to retrieve tasks in a paginated format
      * @return a page of tasks created by the specified author
      */
+    @EntityGraph(attributePaths = {"author", "assignee"})
     Page<Task> findByAuthorId(Long authorId, Pageable pageable);
 
     /**
@@ -26,5 +90,114 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
      * @param pageable   the pagination information to retrieve tasks in a paginated format
      * @return a page of tasks assigned to the specified assignee
      */
+    @EntityGraph(attributePaths = {"author", "assignee"})
     Page<Task> findByAssigneeId(Long assigneeId, Pageable pageable);
+
+    /**
+     * Finds the tasks of the specified author that follow the given task ID, in ID order.
+     * Used for keyset pagination: no rows are skipped and no count query is run.
+     *
+     * @param authorId the ID of the author who created the tasks
+     * @param id       the ID after which to start
+     * @param limit    the maximum number of tasks to return
+     * @return the tasks with a greater ID, in ascending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    List<Task> findByAuthorIdAndIdGreaterThanOrderByIdAsc(Long authorId, Long id, Limit limit);
+
+    /**
+     * Finds the tasks of the specified author with the given priority that follow the given task ID, in ID order.
+     *
+     * @param authorId the ID of the author who created the tasks
+     * @param priority the priority of the tasks
+     * @param id       the ID after which to start
+     * @param limit    the maximum number of tasks to return
+     * @return the tasks with a greater ID, in ascending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    List<Task> findByAuthorIdAndPriorityAndIdGreaterThanOrderByIdAsc(Long authorId, TaskPriority priority, Long id,
+                                                                     Limit limit);
+
+    /**
+     * Finds the tasks assigned to the specified assignee that follow the given task ID, in ID order.
+     *
+     * @param assigneeId the ID of the assignee to whom tasks are assigned
+     * @param id         the ID after which to start
+     * @param limit      the maximum number of tasks to return
+     * @return the tasks with a greater ID, in ascending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    List<Task> findByAssigneeIdAndIdGreaterThanOrderByIdAsc(Long assigneeId, Long id, Limit limit);
+
+    /**
+     * Finds the tasks assigned to the specified assignee with the given priority that follow the given task ID,
+     * in ID order.
+     *
+     * @param assigneeId the ID of the assignee to whom tasks are assigned
+     * @param priority   the priority of the tasks
+     * @param id         the ID after which to start
+     * @param limit      the maximum number of tasks to return
+     * @return the tasks with a greater ID, in ascending ID order
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    List<Task> findByAssigneeIdAndPriorityAndIdGreaterThanOrderByIdAsc(Long assigneeId, TaskPriority priority, Long id,
+                                                                       Limit limit);
+
+    /**
+     * Streams all tasks in ID order, for exports.
+     * Rows are fetched from a database cursor in chunks of {@link #EXPORT_FETCH_SIZE}, and the loaded
+     * tasks are read-only, so no snapshots are kept for dirty checking. Must be consumed within a transaction.
+     *
+     * @return a stream of all tasks, to be closed after use
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams the tasks created by the specified author in ID order, for exports.
+     *
+     * @param authorId the ID of the author who created the tasks
+     * @return a stream of the tasks, to be closed after use
+     * @see #streamAllByOrderByIdAsc()
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamByAuthorIdOrderByIdAsc(Long authorId);
+
+    /**
+     * Streams the tasks assigned to the specified assignee in ID order, for exports.
+     *
+     * @param assigneeId the ID of the assignee to whom tasks are assigned
+     * @return a stream of the tasks, to be closed after use
+     * @see #streamAllByOrderByIdAsc()
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamByAssigneeIdOrderByIdAsc(Long assigneeId);
+
+    /**
+     * Streams the tasks created by the specified author and assigned to the specified assignee in ID order,
+     * for exports.
+     *
+     * @param authorId   the ID of the author who created the tasks
+     * @param assigneeId the ID of the assignee to whom tasks are assigned
+     * @return a stream of the tasks, to be closed after use
+     * @see #streamAllByOrderByIdAsc()
+     */
+    @EntityGraph(attributePaths = {"author", "assignee"})
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamByAuthorIdAndAssigneeIdOrderByIdAsc(Long authorId, Long assigneeId);
 }
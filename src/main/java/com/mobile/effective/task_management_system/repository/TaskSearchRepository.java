@@ -0,0 +1,38 @@
+package com.mobile.effective.task_management_system.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Full-text search over the title and description of tasks.
+ * Backed by the generated {@code task.search_vector} column and its GIN index, which exist on PostgreSQL only.
+ */
+public interface TaskSearchRepository {
+
+    /**
+     * Finds the tasks matching a web-search style query, most relevant first, then by ascending ID.
+     * When a previous result is given, only the results ranked after it are returned.
+     *
+     * @param query     the query, in the syntax of {@code websearch_to_tsquery}
+     * @param afterRank the rank of the last result of the previous page, or null for the first page
+     * @param afterId   the ID of the last result of the previous page; ignored on the first page
+     * @param limit     the maximum number of results to return
+     * @return the matches with their rank and highlighted fragments
+     */
+    List<TaskSearchMatch> searchTasks(String query, Float afterRank, long afterId, int limit);
+
+    /**
+     * ID, rank and highlighted fragments of a task matching a search query.
+     */
+    @Getter
+    @AllArgsConstructor
+    class TaskSearchMatch {
+
+        private final long id;
+        private final float rank;
+        private final String titleHighlight;
+        private final String descriptionHighlight;
+    }
+}
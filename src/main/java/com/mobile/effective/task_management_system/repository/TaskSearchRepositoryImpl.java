@@ -0,0 +1,85 @@
+package com.mobile.effective.task_management_system.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link TaskSearchRepository} for PostgreSQL.
+ * Matching tasks are found through the GIN index on {@code search_vector} and ranked with
+ * {@code ts_rank_cd}; the fragments are highlighted with {@code ts_headline} for the rows of
+ * the page only, since highlighting re-parses the text and is the most expensive step.
+ * The text is HTML-escaped before highlighting, so the {@code <mark>} tags are the only markup
+ * in the fragments.
+ */
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    /**
+     * Text search configuration; must match the one of the {@code search_vector} column.
+     */
+    private static final String TEXT_SEARCH_CONFIG = "russian";
+
+    private static final String HIGHLIGHT_OPTIONS = "StartSel=<mark>, StopSel=</mark>";
+
+    private static final String PAGE_SQL =
+            "SELECT t.id, t.title, t.description, ts_rank_cd(t.search_vector, query) AS rank " +
+            "FROM task t, websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', ?) query " +
+            "WHERE t.search_vector @@ query AND NOT t.deleted";
+
+    private static final String SEEK_CONDITION =
+            " AND (ts_rank_cd(t.search_vector, query) < CAST(? AS real)" +
+            " OR (ts_rank_cd(t.search_vector, query) = CAST(? AS real) AND t.id > ?))";
+
+    private static final String HIGHLIGHT_SQL_PREFIX =
+            "SELECT page.id, page.rank, " +
+            "ts_headline('" + TEXT_SEARCH_CONFIG + "', " + htmlEscaped("page.title") + ", query, '" +
+            HIGHLIGHT_OPTIONS + ", HighlightAll=true') AS title_highlight, " +
+            "ts_headline('" + TEXT_SEARCH_CONFIG + "', " + htmlEscaped("coalesce(page.description, '')") + ", query, '" +
+            HIGHLIGHT_OPTIONS +
+            ", MaxFragments=2, MinWords=5, MaxWords=20') AS description_highlight " +
+            "FROM (";
+
+    private static final String HIGHLIGHT_SQL_SUFFIX =
+            " ORDER BY rank DESC, t.id LIMIT ?) page, " +
+            "websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', ?) query " +
+            "ORDER BY page.rank DESC, page.id";
+
+    private static final String FIRST_PAGE_SQL = HIGHLIGHT_SQL_PREFIX + PAGE_SQL + HIGHLIGHT_SQL_SUFFIX;
+
+    private static final String NEXT_PAGE_SQL = HIGHLIGHT_SQL_PREFIX + PAGE_SQL + SEEK_CONDITION + HIGHLIGHT_SQL_SUFFIX;
+
+    private static final RowMapper<TaskSearchMatch> MATCH_MAPPER = (resultSet, rowNum) -> new TaskSearchMatch(
+            resultSet.getLong("id"),
+            resultSet.getFloat("rank"),
+            resultSet.getString("title_highlight"),
+            resultSet.getString("description_highlight"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a TaskSearchRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public TaskSearchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<TaskSearchMatch> searchTasks(String query, Float afterRank, long afterId, int limit) {
+        if (afterRank == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, MATCH_MAPPER, query, limit, query);
+        }
+        return jdbcTemplate.query(NEXT_PAGE_SQL, MATCH_MAPPER, query, afterRank, afterRank, afterId, limit, query);
+    }
+
+    /**
+     * Wraps a text expression in the replacements escaping the HTML special characters.
+     * The text search parser reads the resulting entities as single tokens, so fragments never cut them.
+     */
+    private static String htmlEscaped(String expression) {
+        return "replace(replace(replace(replace(replace(" + expression + ", '&', '&amp;'), '<', '&lt;'), " +
+               "'>', '&gt;'), '\"', '&quot;'), '''', '&#39;')";
+    }
+}
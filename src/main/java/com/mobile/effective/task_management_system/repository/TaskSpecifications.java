@@ -0,0 +1,119 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Locale;
+
+/**
+ * Specifications for filtering {@link Task} entities.
+ * Each specification compares a single column, and the author and assignee are compared by their
+ * foreign key without a join, so a combined filter maps onto the composite indexes of {@code task}.
+ */
+public final class TaskSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private TaskSpecifications() {
+    }
+
+    /**
+     * Builds a specification from the criteria that are set in the given filter.
+     * Unset criteria add no predicate at all, rather than an always-true one.
+     *
+     * @param filter the filter criteria
+     * @return the combined specification; matches all tasks when no criteria are set
+     */
+    public static Specification<Task> matching(TaskFilter filter) {
+        Specification<Task> specification = Specification.where(null);
+        if (filter.getStatus() != null) {
+            specification = specification.and(hasStatus(filter.getStatus()));
+        }
+        if (filter.getPriority() != null) {
+            specification = specification.and(hasPriority(filter.getPriority()));
+        }
+        if (filter.getAuthorId() != null) {
+            specification = specification.and(hasAuthorId(filter.getAuthorId()));
+        }
+        if (filter.getAssigneeId() != null) {
+            specification = specification.and(hasAssigneeId(filter.getAssigneeId()));
+        }
+        if (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isEmpty()) {
+            specification = specification.and(titleStartsWith(filter.getTitlePrefix()));
+        }
+        return specification;
+    }
+
+    /**
+     * Matches tasks with the given status.
+     *
+     * @param status the status
+     * @return the specification
+     */
+    public static Specification<Task> hasStatus(TaskStatus status) {
+        return (root, query, builder) -> builder.equal(root.get("status"), status);
+    }
+
+    /**
+     * Matches tasks with the given priority.
+     *
+     * @param priority the priority
+     * @return the specification
+     */
+    public static Specification<Task> hasPriority(TaskPriority priority) {
+        return (root, query, builder) -> builder.equal(root.get("priority"), priority);
+    }
+
+    /**
+     * Matches tasks created by the given author.
+     *
+     * @param authorId the ID of the author
+     * @return the specification
+     */
+    public static Specification<Task> hasAuthorId(Long authorId) {
+        return (root, query, builder) -> builder.equal(root.get("author").get("id"), authorId);
+    }
+
+    /**
+     * Matches tasks assigned to the given user.
+     *
+     * @param assigneeId the ID of the assignee
+     * @return the specification
+     */
+    public static Specification<Task> hasAssigneeId(Long assigneeId) {
+        return (root, query, builder) -> builder.equal(root.get("assignee").get("id"), assigneeId);
+    }
+
+    /**
+     * Matches tasks whose title starts with the given text, ignoring case.
+     * Rendered as {@code lower(title) LIKE 'prefix%'}, which PostgreSQL serves with the
+     * {@code text_pattern_ops} index on {@code lower(title)}.
+     *
+     * @param prefix the beginning of the title; LIKE wildcards in it are matched literally
+     * @return the specification
+     */
+    public static Specification<Task> titleStartsWith(String prefix) {
+        String pattern = escapeLike(prefix.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, builder) -> builder.like(builder.lower(root.get("title")), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Escapes the LIKE wildcards of the given value with {@link #LIKE_ESCAPE}.
+     *
+     * @param value the value to escape
+     * @return the escaped value
+     */
+    static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk operations on {@link User} entities executed directly over JDBC.
+ */
+public interface UserBulkRepository {
+
+    /**
+     * Finds which of the given emails are already registered, ignoring case.
+     *
+     * @param emails the emails to check
+     * @return the subset of the emails that belong to existing users, as given
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Inserts the given users in a single multi-row statement, skipping users whose email is already taken
+     * in any case.
+     * The passwords of the users must already be encoded.
+     *
+     * @param users the users to insert
+     * @return the IDs of the inserted users, keyed by email; emails that conflicted are absent
+     */
+    Map<String, Long> insertSkippingConflicts(List<User> users);
+}
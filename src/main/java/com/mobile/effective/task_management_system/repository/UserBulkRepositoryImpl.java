@@ -0,0 +1,81 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.User;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JDBC implementation of {@link UserBulkRepository} for PostgreSQL.
+ * Rows are passed as arrays and expanded with {@code unnest}, so a whole chunk of users
+ * is inserted in one round-trip and the inserted rows come back through {@code RETURNING}.
+ * IDs are taken from {@code user_seq} in the same blocks that Hibernate's pooled optimizer uses,
+ * so they never collide with IDs assigned by the entity manager.
+ * Emails are compared ignoring case, like the {@code uk_user_email_lower} index does.
+ */
+public class UserBulkRepositoryImpl implements UserBulkRepository {
+
+    private static final String FIND_EXISTING_EMAILS_SQL =
+            "SELECT e.email FROM unnest(?::varchar[]) e(email) " +
+            "WHERE EXISTS (SELECT 1 FROM \"user\" u WHERE lower(u.email) = lower(e.email))";
+
+    private static final String INSERT_USERS_SQL =
+            "INSERT INTO \"user\" (id, email, password, name) " +
+            "SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[]) " +
+            "ON CONFLICT DO NOTHING " +
+            "RETURNING id, email";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a UserBulkRepositoryImpl.
+     *
+     * @param jdbcTemplate the JDBC template used to run the statements
+     */
+    public UserBulkRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(FIND_EXISTING_EMAILS_SQL);
+            statement.setArray(1, toArray(connection, emails.toArray()));
+            return statement;
+        }, resultSet -> {
+            existing.add(resultSet.getString(1));
+        });
+        return existing;
+    }
+
+    @Override
+    public Map<String, Long> insertSkippingConflicts(List<User> users) {
+        Map<String, Long> ids = new HashMap<>();
+        Long[] allocatedIds = PooledSequences.allocateIds(jdbcTemplate, "user_seq", users.size());
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_USERS_SQL);
+            statement.setArray(1, connection.createArrayOf("bigint", allocatedIds));
+            statement.setArray(2, toArray(connection, users.stream().map(User::getEmail).toArray()));
+            statement.setArray(3, toArray(connection, users.stream().map(User::getPassword).toArray()));
+            statement.setArray(4, toArray(connection, users.stream().map(User::getName).toArray()));
+            return statement;
+        }, resultSet -> {
+            ids.put(resultSet.getString("email"), resultSet.getLong("id"));
+        });
+        return ids;
+    }
+
+    private static Array toArray(Connection connection, Object[] values) throws SQLException {
+        return connection.createArrayOf("varchar", values);
+    }
+}
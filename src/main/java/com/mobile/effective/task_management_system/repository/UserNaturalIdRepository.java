@@ -0,0 +1,21 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.User;
+
+import java.util.Optional;
+
+/**
+ * Lookups of {@link User} entities by their natural ID, the email.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Finds a user by their email address.
+     * The email is resolved to the user ID through the natural-id cache and the user is read
+     * from the entity cache, so repeated lookups do not reach the database.
+     *
+     * @param email the email address of the user
+     * @return an Optional containing the user if found, or an empty Optional if no user is found
+     */
+    Optional<User> findByEmail(String email);
+}
@@ -2,19 +2,24 @@ package com.mobile.effective.task_management_system.repository;
 
 import com.mobile.effective.task_management_system.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
 /**
  * Repository interface for managing {@link User} entities.
  */
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserBulkRepository, UserNaturalIdRepository {
 
     /**
-     * Finds a user by their email address.
+     * Finds a user by their email address, ignoring case.
+     * The comparison on {@code lower(email)} is served by the {@code uk_user_email_lower} index,
+     * which also keeps emails unique regardless of case, so at most one user matches.
      *
-     * @param email the email address of the user
+     * @param email the email address of the user, in any case
      * @return an Optional containing the user if found, or an empty Optional if no user is found
      */
-    Optional<User> findByEmail(String email);
+    @Query("select u from User u where lower(u.email) = lower(:email)")
+    Optional<User> findByEmailIgnoreCase(@Param("email") String email);
 }
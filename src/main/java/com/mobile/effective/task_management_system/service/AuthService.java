@@ -0,0 +1,19 @@
+package com.mobile.effective.task_management_system.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for user authentication.
+ */
+public interface AuthService {
+
+    /**
+     * Checks the given credentials and issues a JWT token for the user.
+     *
+     * @param email    the email of the user
+     * @param password the raw password of the user
+     * @return a future completed with the issued token, or completed exceptionally with
+     *         {@link org.springframework.security.authentication.BadCredentialsException} if the credentials are wrong
+     */
+    CompletableFuture<String> login(String email, String password);
+}
@@ -1,6 +1,8 @@
 package com.mobile.effective.task_management_system.service;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
 import com.mobile.effective.task_management_system.model.Comment;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 
@@ -22,6 +24,19 @@ public interface CommentService {
      *
      * @param taskId the ID of the task
      * @return a list of comments associated with the task
+     * @deprecated loads the whole thread at once; use {@link #getCommentsByTaskId(Long, Sort.Direction, String, int)}
      */
+    @Deprecated
     List<Comment> getCommentByTaskId(Long taskId);
+
+    /**
+     * Retrieves comments by the given task ID, one page after the given cursor.
+     *
+     * @param taskId    the ID of the task
+     * @param direction {@link Sort.Direction#ASC} for oldest first, {@link Sort.Direction#DESC} for newest first
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param limit     the maximum number of comments on the page
+     * @return a page of comments associated with the task, with the cursor of the next page
+     */
+    CursorPage<Comment> getCommentsByTaskId(Long taskId, Sort.Direction direction, String after, int limit);
 }
@@ -0,0 +1,43 @@
+package com.mobile.effective.task_management_system.service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for CPU-heavy password hashing operations.
+ * Work is executed on a dedicated bounded executor, so hashing load cannot exhaust request threads.
+ */
+public interface PasswordHashingService {
+
+    /**
+     * Hashes the given raw password.
+     *
+     * @param rawPassword the raw password
+     * @return a future completed with the encoded password
+     * @throws com.mobile.effective.task_management_system.exception.ServiceOverloadedException
+     *         if the executor cannot accept more work
+     */
+    CompletableFuture<String> encode(String rawPassword);
+
+    /**
+     * Checks the given raw password against an encoded one.
+     *
+     * @param rawPassword     the raw password
+     * @param encodedPassword the encoded password to compare with
+     * @return a future completed with true if the passwords match, false otherwise
+     * @throws com.mobile.effective.task_management_system.exception.ServiceOverloadedException
+     *         if the executor cannot accept more work
+     */
+    CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword);
+
+    /**
+     * Hashes many raw passwords in parallel across all cores.
+     * Only a limited number of bulk hashing jobs may run at the same time.
+     *
+     * @param rawPasswords the raw passwords
+     * @return a future completed with the encoded passwords, in the order of the input
+     * @throws com.mobile.effective.task_management_system.exception.ServiceOverloadedException
+     *         if too many bulk hashing jobs are already running
+     */
+    CompletableFuture<List<String>> encodeAll(List<String> rawPasswords);
+}
@@ -0,0 +1,22 @@
+package com.mobile.effective.task_management_system.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for exporting tasks in bulk.
+ */
+public interface TaskExportService {
+
+    /**
+     * Writes tasks as newline-delimited JSON, one task per line, in ID order.
+     * Both filters are optional; without filters all tasks are exported.
+     *
+     * @param authorId   the ID of the author whose tasks to export, or null for any author
+     * @param assigneeId the ID of the assignee whose tasks to export, or null for any assignee
+     * @param out        the stream to write to; it is flushed but not closed
+     * @return the number of exported tasks
+     * @throws IOException if writing to the stream fails
+     */
+    long exportTasks(Long authorId, Long assigneeId, OutputStream out) throws IOException;
+}
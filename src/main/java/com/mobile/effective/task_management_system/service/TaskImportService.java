@@ -0,0 +1,35 @@
+package com.mobile.effective.task_management_system.service;
+
+import com.mobile.effective.task_management_system.dto.ImportJobStatus;
+import com.mobile.effective.task_management_system.importing.ImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Service interface for importing tasks and comments from large files.
+ * Imports run in the background; their progress is read with {@link #getJob(String)}.
+ */
+public interface TaskImportService {
+
+    /**
+     * Accepts a file for import and queues the import.
+     * The content is read fully before the method returns, so the caller may close it afterwards.
+     *
+     * @param type    the kind of data in the file
+     * @param format  the format of the file
+     * @param content the content of the file
+     * @return the status of the queued job
+     * @throws IOException if the content cannot be read
+     */
+    ImportJobStatus submit(ImportJobStatus.Type type, ImportFormat format, InputStream content) throws IOException;
+
+    /**
+     * Returns the current status of an import job.
+     *
+     * @param id the ID of the job
+     * @return the status of the job, or an empty Optional if the job is unknown or has expired
+     */
+    Optional<ImportJobStatus> getJob(String id);
+}
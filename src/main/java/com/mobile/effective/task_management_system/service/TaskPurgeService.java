@@ -0,0 +1,14 @@
+package com.mobile.effective.task_management_system.service;
+
+/**
+ * Service interface for removing deleted tasks and their comments from the database.
+ */
+public interface TaskPurgeService {
+
+    /**
+     * Removes one batch of comments of deleted tasks, then the deleted tasks left without comments.
+     *
+     * @return the number of tasks removed
+     */
+    int purgeDeletedTasks();
+}
@@ -1,9 +1,19 @@
 package com.mobile.effective.task_management_system.service;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
+import com.mobile.effective.task_management_system.dto.TaskBulkReassignment;
+import com.mobile.effective.task_management_system.dto.TaskBulkStatusUpdate;
+import com.mobile.effective.task_management_system.dto.TaskCreationResult;
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.dto.TaskSearchHit;
+import com.mobile.effective.task_management_system.dto.TaskStats;
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.pagination.TaskSeekOrder;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +29,25 @@ public interface TaskService {
      */
     Task createTask(Task task);
 
+    /**
+     * Creates many tasks at once.
+     * Each task is validated and saved independently of the others,
+     * so an invalid task does not prevent the rest of the batch from being created.
+     *
+     * @param tasks the tasks to create
+     * @return the outcome for each task, in the order of the input
+     */
+    List<TaskCreationResult> createTasks(List<Task> tasks);
+
+    /**
+     * Retrieves the tasks matching the given criteria with pagination.
+     *
+     * @param filter   the criteria; criteria that are not set are ignored
+     * @param pageable the pagination information
+     * @return a page of matching tasks
+     */
+    Page<Task> getTasks(TaskFilter filter, Pageable pageable);
+
     /**
      * Retrieves tasks by the given author ID with pagination.
      *
@@ -37,6 +66,38 @@ public interface TaskService {
      */
     Page<Task> getTasksByAssigneeId(Long assigneeId, Pageable pageable);
 
+    /**
+     * Retrieves tasks by the given author ID, one page after the given cursor.
+     *
+     * @param authorId the ID of the author
+     * @param order    the order in which the tasks are traversed
+     * @param after    the cursor returned with the previous page, or null for the first page
+     * @param limit    the maximum number of tasks on the page
+     * @return a page of tasks created by the author, with the cursor of the next page
+     */
+    CursorPage<Task> getTasksByAuthorId(Long authorId, TaskSeekOrder order, String after, int limit);
+
+    /**
+     * Retrieves tasks by the given assignee ID, one page after the given cursor.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param order      the order in which the tasks are traversed
+     * @param after      the cursor returned with the previous page, or null for the first page
+     * @param limit      the maximum number of tasks on the page
+     * @return a page of tasks assigned to the assignee, with the cursor of the next page
+     */
+    CursorPage<Task> getTasksByAssigneeId(Long assigneeId, TaskSeekOrder order, String after, int limit);
+
+    /**
+     * Searches tasks by the words of their title and description, most relevant first.
+     *
+     * @param query the search query; supports quoted phrases, {@code or} and {@code -} to exclude words
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of tasks on the page
+     * @return a page of found tasks with highlighted fragments, with the cursor of the next page
+     */
+    CursorPage<TaskSearchHit> searchTasks(String query, String after, int limit);
+
     /**
      * Retrieves a task by its ID.
      *
@@ -45,6 +106,14 @@ public interface TaskService {
      */
     Optional<Task> getTaskById(Long taskId);
 
+    /**
+     * Retrieves the version of a task without loading the task itself.
+     *
+     * @param taskId the ID of the task
+     * @return an Optional containing the version if the task exists, or empty if not found
+     */
+    Optional<Long> getTaskVersion(Long taskId);
+
     /**
      * Updates an existing task.
      *
@@ -54,10 +123,60 @@ public interface TaskService {
      */
     Task updateTask(Long taskId, Task taskDetails);
 
+    /**
+     * Updates an existing task only if it is still at the expected version.
+     *
+     * @param taskId          the ID of the task to update
+     * @param taskDetails     the new details of the task
+     * @param expectedVersion the version the client has seen, or null to update any version
+     * @return the updated task
+     * @throws com.mobile.effective.task_management_system.exception.TaskVersionMismatchException
+     *         if the task is at another version
+     */
+    Task updateTask(Long taskId, Task taskDetails, Long expectedVersion);
+
+    /**
+     * Changes only the fields present in the patch.
+     *
+     * @param taskId          the ID of the task to update
+     * @param patch           the fields to change
+     * @param expectedVersion the version the client has seen, or null to update any version
+     * @return an Optional containing the updated task, or empty if not found
+     * @throws com.mobile.effective.task_management_system.exception.TaskVersionMismatchException
+     *         if the task is at another version
+     */
+    Optional<Task> patchTask(Long taskId, TaskPatch patch, Long expectedVersion);
+
+    /**
+     * Moves the selected tasks to a new status.
+     *
+     * @param update the selected tasks and their new status
+     * @return the number of tasks that were changed
+     * @throws IllegalArgumentException if the selection is missing, ambiguous or too large
+     */
+    long updateTaskStatuses(TaskBulkStatusUpdate update);
+
+    /**
+     * Assigns the selected tasks to another user.
+     *
+     * @param reassignment the selected tasks and their new assignee
+     * @return the number of tasks that were changed
+     * @throws IllegalArgumentException if the selection is missing, ambiguous or too large
+     */
+    long reassignTasks(TaskBulkReassignment reassignment);
+
     /**
      * Deletes a task by its ID.
      *
      * @param taskId the ID of the task to delete
      */
     void deleteTask(Long taskId);
+
+    /**
+     * Retrieves the number of tasks of a user by status and priority, as author and as assignee.
+     *
+     * @param userId the ID of the user
+     * @return the task statistics of the user
+     */
+    TaskStats getTaskStats(Long userId);
 }
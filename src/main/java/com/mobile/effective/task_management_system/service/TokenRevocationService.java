@@ -0,0 +1,30 @@
+package com.mobile.effective.task_management_system.service;
+
+import com.mobile.effective.task_management_system.jwt.VerifiedToken;
+
+/**
+ * Service interface for revoking JWT tokens before they expire.
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revokes the given token, so it is no longer accepted for authentication.
+     *
+     * @param verifiedToken the verified token to revoke
+     */
+    void revoke(VerifiedToken verifiedToken);
+
+    /**
+     * Checks whether the token with the given ID has been revoked.
+     *
+     * @param tokenId the ID ({@code jti}) of the token, may be null for tokens issued without one
+     * @return true if the token has been revoked, false otherwise
+     */
+    boolean isRevoked(String tokenId);
+
+    /**
+     * Rebuilds the in-memory filter of revoked token IDs from the database
+     * and removes revocation records of expired tokens.
+     */
+    void rebuildFilter();
+}
@@ -1,7 +1,9 @@
 package com.mobile.effective.task_management_system.service;
 
+import com.mobile.effective.task_management_system.dto.UserRegistrationResult;
 import com.mobile.effective.task_management_system.model.User;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +21,16 @@ public interface UserService {
      */
     User registerUser(String email, String password, String name);
 
+    /**
+     * Registers many users at once.
+     * Each user is validated and checked for a duplicate email independently,
+     * so invalid or conflicting users do not prevent the others from being registered.
+     *
+     * @param users the users to register, with raw passwords
+     * @return the outcome for each user, in the order of the input
+     */
+    List<UserRegistrationResult> registerUsers(List<User> users);
+
     /**
      * Finds a user by email.
      *
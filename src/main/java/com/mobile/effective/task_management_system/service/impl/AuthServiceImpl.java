@@ -0,0 +1,81 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import com.mobile.effective.task_management_system.service.AuthService;
+import com.mobile.effective.task_management_system.service.PasswordHashingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the AuthService interface.
+ * The password check runs on the bounded password hashing executor, so the calling
+ * request thread is released while BCrypt is working.
+ */
+@Service
+public class AuthServiceImpl implements AuthService {
+
+    private static final List<String> USER_ROLES = List.of("ROLE_USER");
+
+    /**
+     * BCrypt hash with the cost of stored passwords, checked when the email is unknown,
+     * so a login for an unknown email takes as long as one with a wrong password.
+     */
+    private static final String UNKNOWN_USER_HASH = "$2a$10$AvgWz7uJXESgPCdfEGhvIeFuxFOgrXK0b/bQys1pVXEUDMPd9Lx42";
+
+    private final UserRepository userRepository;
+    private final PasswordHashingService passwordHashingService;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * Constructs an AuthServiceImpl.
+     *
+     * @param userRepository         the repository used to find users
+     * @param passwordHashingService the service used to check passwords
+     * @param jwtTokenProvider       the provider used to issue tokens
+     */
+    @Autowired
+    public AuthServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           JwtTokenProvider jwtTokenProvider) {
+        this.userRepository = userRepository;
+        this.passwordHashingService = passwordHashingService;
+        this.jwtTokenProvider = jwtTokenProvider;
+    }
+
+    /**
+     * Checks the given credentials and issues a JWT token carrying the user ID and roles.
+     * An email that does not match exactly is looked up again ignoring case. For an unknown email
+     * the password is still checked against a fixed hash, so the response time does not reveal
+     * whether the email is registered.
+     *
+     * @param email    the email of the user
+     * @param password the raw password of the user
+     * @return a future completed with the issued token
+     */
+    @Override
+    public CompletableFuture<String> login(String email, String password) {
+        Optional<User> user = userRepository.findByEmail(email)
+                .or(() -> userRepository.findByEmailIgnoreCase(email));
+        if (user.isEmpty()) {
+            return passwordHashingService.matches(password, UNKNOWN_USER_HASH)
+                    .thenApply(matches -> {
+                        throw new BadCredentialsException("Invalid email or password");
+                    });
+        }
+
+        User found = user.get();
+        return passwordHashingService.matches(password, found.getPassword())
+                .thenApply(matches -> {
+                    if (!matches) {
+                        throw new BadCredentialsException("Invalid email or password");
+                    }
+                    return jwtTokenProvider.createToken(found.getId(), found.getEmail(), USER_ROLES);
+                });
+    }
+}
@@ -1,24 +1,47 @@
 package com.mobile.effective.task_management_system.service.impl;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
 import com.mobile.effective.task_management_system.model.Comment;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.pagination.KeysetCursor;
 import com.mobile.effective.task_management_system.repository.CommentRepository;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
 import com.mobile.effective.task_management_system.service.CommentService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Implementation of the CommentService interface.
+ * Comments of deleted tasks are hidden until the tasks are purged with their comments,
+ * and new comments on deleted tasks are rejected.
  */
 @Service
 public class CommentServiceImpl implements CommentService {
 
     private final CommentRepository commentRepository;
+    private final TaskRepository taskRepository;
+    private final int maxPageLimit;
 
+    /**
+     * Constructs a CommentServiceImpl.
+     *
+     * @param commentRepository the repository used to perform CRUD operations on Comment entities
+     * @param taskRepository    the repository used to check that a commented task is not deleted
+     * @param maxPageLimit      the maximum number of comments on a page
+     */
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository) {
+    public CommentServiceImpl(CommentRepository commentRepository, TaskRepository taskRepository,
+                              @Value("${comments.page.max-limit:100}") int maxPageLimit) {
         this.commentRepository = commentRepository;
+        this.taskRepository = taskRepository;
+        this.maxPageLimit = maxPageLimit;
     }
 
     /**
@@ -26,9 +49,14 @@ public class CommentServiceImpl implements CommentService {
      *
      * @param comment the comment to add
      * @return the added comment
+     * @throws IllegalArgumentException if the commented task does not exist or is deleted
      */
     @Override
     public Comment addComment(Comment comment) {
+        Task task = comment.getTask();
+        if (task != null && task.getId() != null && !taskRepository.existsById(task.getId())) {
+            throw new IllegalArgumentException("Task not found with id " + task.getId());
+        }
         return commentRepository.save(comment);
     }
 
@@ -36,10 +64,45 @@ public class CommentServiceImpl implements CommentService {
      * Retrieves comments by the given task ID.
      *
      * @param taskId the ID of the task
-     * @return a list of comments associated with the task
+     * @return a list of comments associated with the task, empty if the task is deleted
      */
     @Override
+    @Deprecated
+    @Transactional(readOnly = true)
     public List<Comment> getCommentByTaskId(Long taskId) {
         return commentRepository.findByTaskId(taskId);
     }
+
+    /**
+     * Retrieves comments by the given task ID, one page after the given cursor.
+     * One comment more than requested is read to find out whether a next page exists.
+     *
+     * @param taskId    the ID of the task
+     * @param direction {@link Sort.Direction#ASC} for oldest first, {@link Sort.Direction#DESC} for newest first
+     * @param after     the cursor returned with the previous page, or null for the first page
+     * @param limit     the maximum number of comments on the page
+     * @return a page of comments associated with the task, with the cursor of the next page;
+     * empty if the task is deleted
+     * @throws IllegalArgumentException if the cursor is invalid or the limit is out of range
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Comment> getCommentsByTaskId(Long taskId, Sort.Direction direction, String after, int limit) {
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageLimit);
+        }
+        KeysetCursor cursor = after == null || after.isEmpty() ? null : KeysetCursor.decodeId(after);
+
+        List<Comment> comments = direction.isAscending()
+                ? commentRepository.findByTaskIdAndIdGreaterThanOrderByIdAsc(
+                        taskId, cursor == null ? 0L : cursor.getId(), Limit.of(limit + 1))
+                : commentRepository.findByTaskIdAndIdLessThanOrderByIdDesc(
+                        taskId, cursor == null ? Long.MAX_VALUE : cursor.getId(), Limit.of(limit + 1));
+
+        if (comments.size() <= limit) {
+            return new CursorPage<>(comments, null);
+        }
+        List<Comment> page = new ArrayList<>(comments.subList(0, limit));
+        return new CursorPage<>(page, KeysetCursor.afterId(page.get(limit - 1).getId()).encode());
+    }
 }
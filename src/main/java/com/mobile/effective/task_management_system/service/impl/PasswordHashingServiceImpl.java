@@ -0,0 +1,157 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.service.PasswordHashingService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the PasswordHashingService interface.
+ * BCrypt work runs on a fixed pool sized to the number of cores with a bounded queue.
+ * When the queue is full, new work is rejected immediately with a {@link ServiceOverloadedException}
+ * instead of piling up blocked request threads. Bulk hashing runs on a separate fork-join pool,
+ * with the number of concurrent bulk jobs limited as well.
+ */
+@Service
+public class PasswordHashingServiceImpl implements PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Executor executor;
+    private final ForkJoinPool bulkPool;
+    private final Semaphore bulkPermits;
+    private final long retryAfterSeconds;
+
+    /**
+     * Constructs a PasswordHashingServiceImpl with its own bounded executor.
+     *
+     * @param passwordEncoder   the encoder used to hash passwords
+     * @param poolSize          the number of hashing threads, or 0 to use the number of available cores
+     * @param queueCapacity     the maximum number of hashing tasks waiting for a thread
+     * @param bulkConcurrency   the maximum number of bulk hashing jobs running at the same time
+     * @param retryAfterSeconds the delay suggested to clients when work is rejected
+     */
+    @Autowired
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder,
+                                      @Value("${password-hashing.pool-size:0}") int poolSize,
+                                      @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+                                      @Value("${password-hashing.bulk-concurrency:1}") int bulkConcurrency,
+                                      @Value("${password-hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this(passwordEncoder, createExecutor(poolSize, queueCapacity), createBulkPool(poolSize),
+                bulkConcurrency, retryAfterSeconds);
+    }
+
+    /**
+     * Constructs a PasswordHashingServiceImpl that runs hashing work on the given executors.
+     *
+     * @param passwordEncoder   the encoder used to hash passwords
+     * @param executor          the executor running single hashing operations
+     * @param bulkPool          the fork-join pool running bulk hashing
+     * @param bulkConcurrency   the maximum number of bulk hashing jobs running at the same time
+     * @param retryAfterSeconds the delay suggested to clients when work is rejected
+     */
+    public PasswordHashingServiceImpl(PasswordEncoder passwordEncoder, Executor executor, ForkJoinPool bulkPool,
+                                      int bulkConcurrency, long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.bulkPool = bulkPool;
+        this.bulkPermits = new Semaphore(bulkConcurrency);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Hashes the given raw password on the hashing executor.
+     *
+     * @param rawPassword the raw password
+     * @return a future completed with the encoded password
+     */
+    @Override
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks the given raw password against an encoded one on the hashing executor.
+     *
+     * @param rawPassword     the raw password
+     * @param encodedPassword the encoded password to compare with
+     * @return a future completed with true if the passwords match, false otherwise
+     */
+    @Override
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Hashes many raw passwords in parallel on the fork-join pool.
+     *
+     * @param rawPasswords the raw passwords
+     * @return a future completed with the encoded passwords, in the order of the input
+     */
+    @Override
+    public CompletableFuture<List<String>> encodeAll(List<String> rawPasswords) {
+        if (!bulkPermits.tryAcquire()) {
+            throw new ServiceOverloadedException("Bulk password hashing capacity exceeded", retryAfterSeconds, null);
+        }
+        try {
+            return CompletableFuture
+                    .supplyAsync(() -> rawPasswords.parallelStream().map(passwordEncoder::encode).toList(), bulkPool)
+                    .whenComplete((encoded, e) -> bulkPermits.release());
+        } catch (RejectedExecutionException e) {
+            bulkPermits.release();
+            throw new ServiceOverloadedException("Bulk password hashing capacity exceeded", retryAfterSeconds, e);
+        }
+    }
+
+    /**
+     * Stops the hashing threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+        if (bulkPool != ForkJoinPool.commonPool()) {
+            bulkPool.shutdown();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> work) {
+        try {
+            return CompletableFuture.supplyAsync(work, executor);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Password hashing capacity exceeded", retryAfterSeconds, e);
+        }
+    }
+
+    private static ExecutorService createExecutor(int poolSize, int queueCapacity) {
+        int threads = threadCount(poolSize);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    private static ForkJoinPool createBulkPool(int poolSize) {
+        return new ForkJoinPool(threadCount(poolSize));
+    }
+
+    private static int threadCount(int poolSize) {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
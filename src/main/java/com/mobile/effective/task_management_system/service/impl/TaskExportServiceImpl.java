@@ -0,0 +1,99 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.service.TaskExportService;
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the TaskExportService interface.
+ * Tasks are read from a database cursor and written one at a time; each task is detached
+ * once written and the persistence context is cleared after every flush, so memory use
+ * does not depend on the number of exported tasks. The exported tasks are not put into the
+ * second-level cache, so an export does not push the cached working set out.
+ */
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    private static final byte[] LINE_SEPARATOR = {'\n'};
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final ObjectWriter taskWriter;
+    private final int flushInterval;
+
+    /**
+     * Constructs a TaskExportServiceImpl.
+     *
+     * @param taskRepository the repository used to stream tasks
+     * @param entityManager  the entity manager detaching the exported tasks
+     * @param objectMapper   the object mapper used to serialize tasks
+     * @param flushInterval  the number of tasks written between two flushes of the output
+     */
+    @Autowired
+    public TaskExportServiceImpl(TaskRepository taskRepository, EntityManager entityManager, ObjectMapper objectMapper,
+                                 @Value("${tasks.export.flush-interval:1000}") int flushInterval) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.taskWriter = objectMapper.writerFor(Task.class);
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Writes tasks as newline-delimited JSON, one task per line, in ID order.
+     *
+     * @param authorId   the ID of the author whose tasks to export, or null for any author
+     * @param assigneeId the ID of the assignee whose tasks to export, or null for any assignee
+     * @param out        the stream to write to; it is flushed but not closed
+     * @return the number of exported tasks
+     * @throws IOException if writing to the stream fails
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTasks(Long authorId, Long assigneeId, OutputStream out) throws IOException {
+        // Set on the session: a query hint only applies until the cursor is opened
+        entityManager.setProperty(SpecHints.HINT_SPEC_CACHE_STORE_MODE, CacheStoreMode.BYPASS);
+        long count = 0;
+        try (Stream<Task> tasks = streamTasks(authorId, assigneeId)) {
+            Iterator<Task> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                Task task = iterator.next();
+                out.write(taskWriter.writeValueAsBytes(task));
+                out.write(LINE_SEPARATOR);
+                entityManager.detach(task);
+                if (++count % flushInterval == 0) {
+                    out.flush();
+                    entityManager.clear();
+                }
+            }
+        }
+        out.flush();
+        return count;
+    }
+
+    private Stream<Task> streamTasks(Long authorId, Long assigneeId) {
+        if (authorId != null && assigneeId != null) {
+            return taskRepository.streamByAuthorIdAndAssigneeIdOrderByIdAsc(authorId, assigneeId);
+        }
+        if (authorId != null) {
+            return taskRepository.streamByAuthorIdOrderByIdAsc(authorId);
+        }
+        if (assigneeId != null) {
+            return taskRepository.streamByAssigneeIdOrderByIdAsc(assigneeId);
+        }
+        return taskRepository.streamAllByOrderByIdAsc();
+    }
+}
@@ -0,0 +1,373 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.effective.task_management_system.dto.ImportJobStatus;
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.importing.ImportFormat;
+import com.mobile.effective.task_management_system.importing.NdjsonCsvReader;
+import com.mobile.effective.task_management_system.repository.CommentImportRepository;
+import com.mobile.effective.task_management_system.repository.CommentRepository;
+import com.mobile.effective.task_management_system.repository.TaskImportRepository;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.service.TaskImportService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of the TaskImportService interface.
+ * An upload is first spooled to a temporary file, then imported on a small dedicated pool:
+ * the file is streamed into a staging table with PostgreSQL {@code COPY}, validated and
+ * resolved with set-based statements, and merged into the target table. The whole import
+ * runs in one transaction, so a failed job leaves no partial data behind. The number of
+ * running and queued jobs is bounded; further uploads are rejected with a
+ * {@link ServiceOverloadedException} before their content is read.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final Semaphore slots;
+    private final int errorLimit;
+    private final Duration jobRetention;
+    private final long retryAfterSeconds;
+    private final Map<String, ImportJob> jobs = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a TaskImportServiceImpl with its own import pool.
+     *
+     * @param taskRepository      the repository importing tasks
+     * @param commentRepository   the repository importing comments
+     * @param transactionManager  the transaction manager running each import in one transaction
+     * @param objectMapper        the object mapper used to read NDJSON files
+     * @param concurrency         the number of imports running at the same time
+     * @param queueCapacity       the maximum number of imports waiting for a free slot
+     * @param errorLimit          the maximum number of rejected rows reported per job
+     * @param jobRetentionMillis  how long the status of a finished job is kept, in milliseconds
+     * @param retryAfterSeconds   the delay suggested to clients when an upload is rejected
+     */
+    @Autowired
+    public TaskImportServiceImpl(TaskRepository taskRepository, CommentRepository commentRepository,
+                                 PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                 @Value("${imports.concurrency:1}") int concurrency,
+                                 @Value("${imports.queue-capacity:10}") int queueCapacity,
+                                 @Value("${imports.error-limit:100}") int errorLimit,
+                                 @Value("${imports.job-retention:3600000}") long jobRetentionMillis,
+                                 @Value("${imports.retry-after-seconds:30}") long retryAfterSeconds) {
+        this(taskRepository, commentRepository, transactionManager, objectMapper,
+                createExecutor(concurrency), concurrency + queueCapacity,
+                errorLimit, jobRetentionMillis, retryAfterSeconds);
+    }
+
+    /**
+     * Constructs a TaskImportServiceImpl that runs imports on the given executor.
+     *
+     * @param taskRepository     the repository importing tasks
+     * @param commentRepository  the repository importing comments
+     * @param transactionManager the transaction manager running each import in one transaction
+     * @param objectMapper       the object mapper used to read NDJSON files
+     * @param executor           the executor running the imports
+     * @param maxJobs            the maximum number of running and queued imports
+     * @param errorLimit         the maximum number of rejected rows reported per job
+     * @param jobRetentionMillis how long the status of a finished job is kept, in milliseconds
+     * @param retryAfterSeconds  the delay suggested to clients when an upload is rejected
+     */
+    public TaskImportServiceImpl(TaskRepository taskRepository, CommentRepository commentRepository,
+                                 PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                                 Executor executor, int maxJobs, int errorLimit, long jobRetentionMillis,
+                                 long retryAfterSeconds) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.slots = new Semaphore(maxJobs);
+        this.errorLimit = errorLimit;
+        this.jobRetention = Duration.ofMillis(jobRetentionMillis);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Spools the content to a temporary file and queues its import.
+     *
+     * @param type    the kind of data in the file
+     * @param format  the format of the file
+     * @param content the content of the file
+     * @return the status of the queued job
+     * @throws IOException if the content cannot be read
+     * @throws ServiceOverloadedException if too many imports are running or queued
+     */
+    @Override
+    public ImportJobStatus submit(ImportJobStatus.Type type, ImportFormat format, InputStream content)
+            throws IOException {
+        evictExpiredJobs();
+        if (!slots.tryAcquire()) {
+            throw new ServiceOverloadedException("Import capacity exceeded", retryAfterSeconds, null);
+        }
+
+        Path file = null;
+        try {
+            file = Files.createTempFile("import-", ".upload");
+            Files.copy(content, file, StandardCopyOption.REPLACE_EXISTING);
+            ImportJob job = new ImportJob(UUID.randomUUID().toString(), type, Files.size(file));
+            jobs.put(job.id, job);
+            Path upload = file;
+            executor.execute(() -> run(job, format, upload));
+            return job.snapshot();
+        } catch (IOException | RuntimeException e) {
+            slots.release();
+            deleteQuietly(file);
+            if (e instanceof RejectedExecutionException) {
+                throw new ServiceOverloadedException("Import capacity exceeded", retryAfterSeconds, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the current status of an import job.
+     *
+     * @param id the ID of the job
+     * @return the status of the job, or an empty Optional if the job is unknown or has expired
+     */
+    @Override
+    public Optional<ImportJobStatus> getJob(String id) {
+        evictExpiredJobs();
+        return Optional.ofNullable(jobs.get(id)).map(ImportJob::snapshot);
+    }
+
+    /**
+     * Stops the import threads when the application shuts down.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdown();
+        }
+    }
+
+    private void run(ImportJob job, ImportFormat format, Path file) {
+        job.startedAt = Instant.now();
+        ImportSteps steps = stepsFor(job.type);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Reader csv = openCsv(job, format, file, steps.columns())) {
+                    job.state = ImportJobStatus.State.COPYING;
+                    job.rowsCopied = steps.copy().apply(csv);
+
+                    job.state = ImportJobStatus.State.VALIDATING;
+                    job.rowsRejected = steps.reject().getAsLong();
+                    job.errors = steps.errors().apply(errorLimit);
+
+                    job.state = ImportJobStatus.State.MERGING;
+                    job.rowsImported = steps.merge().getAsLong();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            job.finish(ImportJobStatus.State.COMPLETED, null);
+            logger.info("Import {} of {} completed: {} rows imported, {} rejected",
+                    job.id, job.type, job.rowsImported, job.rowsRejected);
+        } catch (RuntimeException e) {
+            job.rowsImported = 0;
+            job.finish(ImportJobStatus.State.FAILED, rootMessage(e));
+            logger.warn("Import {} of {} failed", job.id, job.type, e);
+        } finally {
+            deleteQuietly(file);
+            slots.release();
+        }
+    }
+
+    private ImportSteps stepsFor(ImportJobStatus.Type type) {
+        return switch (type) {
+            case TASKS -> new ImportSteps(TaskImportRepository.TASK_IMPORT_COLUMNS,
+                    taskRepository::copyIntoTaskStaging, taskRepository::rejectInvalidTaskStagingRows,
+                    taskRepository::findTaskStagingErrors, taskRepository::mergeTaskStaging);
+            case COMMENTS -> new ImportSteps(CommentImportRepository.COMMENT_IMPORT_COLUMNS,
+                    commentRepository::copyIntoCommentStaging, commentRepository::rejectInvalidCommentStagingRows,
+                    commentRepository::findCommentStagingErrors, commentRepository::mergeCommentStaging);
+        };
+    }
+
+    /**
+     * Opens the file as CSV, converting NDJSON on the fly and counting the bytes and lines read.
+     */
+    private Reader openCsv(ImportJob job, ImportFormat format, Path file, List<String> columns) throws IOException {
+        InputStream in = new ProgressInputStream(Files.newInputStream(file), job);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return format == ImportFormat.NDJSON ? new NdjsonCsvReader(reader, objectMapper, columns) : reader;
+    }
+
+    private void evictExpiredJobs() {
+        Instant threshold = Instant.now().minus(jobRetention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(threshold));
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete import file {}", file, e);
+        }
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() != null ? root.getMessage() : root.getClass().getSimpleName();
+    }
+
+    private static ExecutorService createExecutor(int concurrency) {
+        return new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("task-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Repository operations making up the import of one kind of data.
+     */
+    private record ImportSteps(List<String> columns, Function<Reader, Long> copy, LongSupplier reject,
+                               IntFunction<List<ImportRowError>> errors, LongSupplier merge) {
+    }
+
+    /**
+     * Mutable state of a job, written by the import thread and read by status requests.
+     */
+    private static final class ImportJob {
+
+        private final String id;
+        private final ImportJobStatus.Type type;
+        private final long bytesTotal;
+        private final Instant submittedAt = Instant.now();
+        private final AtomicLong bytesRead = new AtomicLong();
+        private final AtomicLong linesRead = new AtomicLong();
+        private volatile ImportJobStatus.State state = ImportJobStatus.State.QUEUED;
+        private volatile long rowsCopied = -1;
+        private volatile long rowsRejected;
+        private volatile long rowsImported;
+        private volatile List<ImportRowError> errors = List.of();
+        private volatile Instant startedAt;
+        private volatile Instant finishedAt;
+        private volatile String message;
+
+        private ImportJob(String id, ImportJobStatus.Type type, long bytesTotal) {
+            this.id = id;
+            this.type = type;
+            this.bytesTotal = bytesTotal;
+        }
+
+        private void finish(ImportJobStatus.State finalState, String failure) {
+            message = failure;
+            finishedAt = Instant.now();
+            state = finalState;
+        }
+
+        /**
+         * Builds the status of the job. Until the copy has finished, the copied rows are
+         * estimated from the lines read so far, not counting the CSV header.
+         */
+        private ImportJobStatus snapshot() {
+            long copied = rowsCopied >= 0 ? rowsCopied : Math.max(linesRead.get() - 1, 0);
+            Instant started = startedAt;
+            double rowsPerSecond = 0;
+            if (started != null) {
+                Instant end = finishedAt != null ? finishedAt : Instant.now();
+                long elapsedMillis = Math.max(Duration.between(started, end).toMillis(), 1);
+                rowsPerSecond = copied * 1000.0 / elapsedMillis;
+            }
+            return new ImportJobStatus(id, type, state, bytesTotal, bytesRead.get(), copied, rowsRejected,
+                    rowsImported, rowsPerSecond, submittedAt, started, finishedAt, message, errors);
+        }
+    }
+
+    /**
+     * Input stream recording the number of bytes and lines read into the job.
+     * Counting newline bytes is safe in UTF-8, where they never occur inside a multi-byte character.
+     */
+    private static final class ProgressInputStream extends FilterInputStream {
+
+        private final ImportJob job;
+
+        private ProgressInputStream(InputStream in, ImportJob job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.bytesRead.incrementAndGet();
+                if (b == '\n') {
+                    job.linesRead.incrementAndGet();
+                }
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                job.bytesRead.addAndGet(count);
+                long lines = 0;
+                for (int i = offset; i < offset + count; i++) {
+                    if (buffer[i] == '\n') {
+                        lines++;
+                    }
+                }
+                job.linesRead.addAndGet(lines);
+            }
+            return count;
+        }
+    }
+}
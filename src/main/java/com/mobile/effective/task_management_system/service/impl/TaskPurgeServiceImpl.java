@@ -0,0 +1,78 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.service.TaskPurgeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Implementation of the TaskPurgeService interface.
+ * Deleting a task only marks it as deleted; this service removes the marked tasks in the background.
+ * Each run removes at most {@code tasks.purge.batch-size} comments and as many tasks, and runs are
+ * spaced by {@code tasks.purge.interval}, which bounds the delete rate. No transaction spans the run:
+ * every statement commits on its own, so row locks are held only for one batch.
+ */
+@Service
+public class TaskPurgeServiceImpl implements TaskPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskPurgeServiceImpl.class);
+
+    private final TaskRepository taskRepository;
+    private final int batchSize;
+    private final Counter purgedTasks;
+    private final Counter purgedComments;
+
+    /**
+     * Constructs a TaskPurgeServiceImpl.
+     *
+     * @param taskRepository the repository used to find and remove deleted tasks
+     * @param batchSize      the maximum number of comments, and of tasks, removed per run
+     * @param meterRegistry  the registry to which the purge counters are bound
+     */
+    @Autowired
+    public TaskPurgeServiceImpl(TaskRepository taskRepository,
+                                @Value("${tasks.purge.batch-size:1000}") int batchSize,
+                                MeterRegistry meterRegistry) {
+        this.taskRepository = taskRepository;
+        this.batchSize = batchSize;
+        this.purgedTasks = Counter.builder("tasks.purged")
+                .description("Deleted tasks removed from the database")
+                .register(meterRegistry);
+        this.purgedComments = Counter.builder("tasks.purged.comments")
+                .description("Comments of deleted tasks removed from the database")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Removes one batch of comments of the oldest deleted tasks. When the batch is not full, the comments
+     * of those tasks are gone, so the tasks themselves are removed as well.
+     *
+     * @return the number of tasks removed
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tasks.purge.interval:1000}")
+    public int purgeDeletedTasks() {
+        List<Long> taskIds = taskRepository.findDeletedTaskIds(batchSize);
+        if (taskIds.isEmpty()) {
+            return 0;
+        }
+        int comments = taskRepository.deleteCommentsOfTasks(taskIds, batchSize);
+        purgedComments.increment(comments);
+        if (comments == batchSize) {
+            logger.debug("Purged {} comments of deleted tasks", comments);
+            return 0;
+        }
+        int tasks = taskRepository.purgeTasks(taskIds);
+        purgedTasks.increment(tasks);
+        logger.debug("Purged {} deleted tasks and {} comments", tasks, comments);
+        return tasks;
+    }
+}
@@ -1,14 +1,63 @@
 package com.mobile.effective.task_management_system.service.impl;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
+import com.mobile.effective.task_management_system.dto.TaskBulkReassignment;
+import com.mobile.effective.task_management_system.dto.TaskBulkStatusUpdate;
+import com.mobile.effective.task_management_system.dto.TaskCreationResult;
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.dto.TaskSearchHit;
+import com.mobile.effective.task_management_system.dto.TaskSelection;
+import com.mobile.effective.task_management_system.dto.TaskStats;
+import com.mobile.effective.task_management_system.exception.TaskVersionMismatchException;
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.TaskCounter;
+import com.mobile.effective.task_management_system.model.TaskCounterId;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskRole;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.pagination.KeysetCursor;
+import com.mobile.effective.task_management_system.pagination.SearchCursor;
+import com.mobile.effective.task_management_system.pagination.TaskSeekOrder;
+import com.mobile.effective.task_management_system.pagination.TaskSortPolicy;
+import com.mobile.effective.task_management_system.repository.TaskBulkUpdateRepository.BulkUpdateChunk;
+import com.mobile.effective.task_management_system.repository.TaskCounterDeltas;
+import com.mobile.effective.task_management_system.repository.TaskCounterRepository;
+import com.mobile.effective.task_management_system.repository.TaskPatchRepository.PatchedTask;
 import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.repository.TaskSearchRepository.TaskSearchMatch;
+import com.mobile.effective.task_management_system.repository.TaskSpecifications;
+import com.mobile.effective.task_management_system.repository.UserRepository;
 import com.mobile.effective.task_management_system.service.TaskService;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the TaskService interface.
@@ -16,89 +65,630 @@ import java.util.Optional;
 @Service
 public class TaskServiceImpl implements TaskService {
 
+    private static final Logger logger = LoggerFactory.getLogger(TaskServiceImpl.class);
+
     private final TaskRepository taskRepository;
+    private final TaskCounterRepository taskCounterRepository;
+    private final UserRepository userRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int batchChunkSize;
+    private final int batchMaxSize;
+    private final int maxPageLimit;
+    private final int bulkUpdateChunkSize;
 
+    /**
+     * Constructs a TaskServiceImpl.
+     *
+     * @param taskRepository        the repository used to perform CRUD operations on Task entities
+     * @param taskCounterRepository the repository keeping the per-user task counters
+     * @param userRepository        the repository used to check the assignees of updates
+     * @param validator          the validator used to check tasks of a batch
+     * @param transactionManager the transaction manager used to save each chunk of a batch in its own transaction
+     * @param entityManager      the entity manager detaching the tasks of a saved chunk
+     * @param batchChunkSize     the number of tasks saved per transaction in a batch
+     * @param batchMaxSize       the maximum number of tasks in a single batch
+     * @param maxPageLimit       the maximum number of tasks on a page read with a cursor
+     * @param bulkUpdateChunkSize the number of tasks changed per statement and transaction in a bulk update
+     */
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, TaskCounterRepository taskCounterRepository,
+                           UserRepository userRepository, Validator validator,
+                           PlatformTransactionManager transactionManager, EntityManager entityManager,
+                           @Value("${tasks.batch.chunk-size:500}") int batchChunkSize,
+                           @Value("${tasks.batch.max-size:10000}") int batchMaxSize,
+                           @Value("${tasks.page.max-limit:100}") int maxPageLimit,
+                           @Value("${tasks.bulk-update.chunk-size:1000}") int bulkUpdateChunkSize) {
         this.taskRepository = taskRepository;
+        this.taskCounterRepository = taskCounterRepository;
+        this.userRepository = userRepository;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.batchChunkSize = batchChunkSize;
+        this.batchMaxSize = batchMaxSize;
+        this.maxPageLimit = maxPageLimit;
+        this.bulkUpdateChunkSize = bulkUpdateChunkSize;
     }
 
     /**
-     * Creates a new task.
+     * Creates a new task and counts it for its author and assignee.
      *
      * @param task the task to create
      * @return the created task
      */
     @Override
+    @Transactional
     public Task createTask(Task task) {
-        return taskRepository.save(task);
+        Task created = taskRepository.save(task);
+        taskCounterRepository.applyDeltas(new TaskCounterDeltas().add(created));
+        return created;
+    }
+
+    /**
+     * Creates many tasks at once.
+     * Valid tasks are saved in chunks of {@code tasks.batch.chunk-size}, each chunk in its own
+     * transaction and flushed as JDBC batches. If a chunk is rejected by the database, its tasks
+     * are saved one by one, so only the offending tasks fail.
+     *
+     * @param tasks the tasks to create
+     * @return the outcome for each task, in the order of the input
+     * @throws IllegalArgumentException if the batch contains more tasks than allowed
+     */
+    @Override
+    public List<TaskCreationResult> createTasks(List<Task> tasks) {
+        if (tasks.size() > batchMaxSize) {
+            throw new IllegalArgumentException("Batch is limited to " + batchMaxSize + " tasks");
+        }
+
+        TaskCreationResult[] results = new TaskCreationResult[tasks.size()];
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            String error = validate(tasks.get(i));
+            if (error != null) {
+                results[i] = new TaskCreationResult(i, TaskCreationResult.Status.INVALID, null, error);
+            } else {
+                indexes.add(i);
+            }
+        }
+
+        for (int from = 0; from < indexes.size(); from += batchChunkSize) {
+            List<Integer> chunk = indexes.subList(from, Math.min(from + batchChunkSize, indexes.size()));
+            List<Task> chunkTasks = chunk.stream().map(tasks::get).toList();
+            List<Task> saved = saveInTransaction(chunkTasks);
+            if (saved != null) {
+                for (int k = 0; k < chunk.size(); k++) {
+                    results[chunk.get(k)] = created(chunk.get(k), saved.get(k));
+                }
+                continue;
+            }
+            for (int i : chunk) {
+                List<Task> savedTask = saveInTransaction(List.of(tasks.get(i)));
+                results[i] = savedTask != null
+                        ? created(i, savedTask.get(0))
+                        : new TaskCreationResult(i, TaskCreationResult.Status.FAILED, null,
+                        "Задача отклонена базой данных");
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private String validate(Task task) {
+        if (task == null) {
+            return "Задача не может быть пустой";
+        }
+        List<String> errors = validator.validate(task).stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.toCollection(ArrayList::new));
+        if (task.getTitle() == null || task.getTitle().isBlank()) {
+            errors.add("Заголовок задачи не может быть пустым");
+        }
+        if (task.getStatus() == null) {
+            errors.add("Статус задачи не может быть пустым");
+        }
+        if (task.getPriority() == null) {
+            errors.add("Приоритет задачи не может быть пустым");
+        }
+        return errors.isEmpty() ? null : errors.stream().sorted().collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Saves the given tasks in a single transaction.
+     * The ID and version are cleared first, since a rolled back attempt leaves them set
+     * and the tasks would then be merged as existing ones.
+     *
+     * @return the saved tasks in the order of the input, or null if the transaction was rolled back
+     */
+    private List<Task> saveInTransaction(List<Task> tasks) {
+        tasks.forEach(task -> {
+            task.setId(null);
+            task.setVersion(null);
+        });
+        try {
+            return transactionTemplate.execute(status -> {
+                TaskCounterDeltas deltas = new TaskCounterDeltas();
+                List<Task> saved = taskRepository.saveAll(tasks);
+                saved.forEach(deltas::add);
+                taskRepository.flush();
+                taskCounterRepository.applyDeltas(deltas);
+                entityManager.clear();
+                return saved;
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Failed to save a batch of {} tasks: {}", tasks.size(), e.getMostSpecificCause().getMessage());
+            return null;
+        }
+    }
+
+    private static TaskCreationResult created(int index, Task task) {
+        return new TaskCreationResult(index, TaskCreationResult.Status.CREATED, task.getId(), null);
+    }
+
+    /**
+     * Retrieves the tasks matching the given criteria with pagination.
+     * Only the criteria that are set become predicates; the sort is restricted by {@link TaskSortPolicy}.
+     *
+     * @param filter   the criteria; criteria that are not set are ignored
+     * @param pageable the pagination information
+     * @return a page of matching tasks
+     * @throws IllegalArgumentException if the sort is not allowed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Task> getTasks(TaskFilter filter, Pageable pageable) {
+        return taskRepository.findAll(TaskSpecifications.matching(filter),
+                TaskSortPolicy.apply(pageable, filteredProperties(filter)));
+    }
+
+    private static String[] filteredProperties(TaskFilter filter) {
+        List<String> properties = new ArrayList<>();
+        if (filter.getAuthorId() != null) {
+            properties.add(TaskSortPolicy.AUTHOR);
+        }
+        if (filter.getAssigneeId() != null) {
+            properties.add(TaskSortPolicy.ASSIGNEE);
+        }
+        if (filter.getStatus() != null) {
+            properties.add(TaskSortPolicy.STATUS);
+        }
+        if (filter.getPriority() != null) {
+            properties.add(TaskSortPolicy.PRIORITY);
+        }
+        return properties.toArray(String[]::new);
     }
 
     /**
      * Retrieves tasks by the given author ID with pagination.
      *
+     * The sort is restricted by {@link TaskSortPolicy}.
+     *
      * @param authorId the ID of the author
      * @param pageable the pagination information
      * @return a page of tasks created by the author
+     * @throws IllegalArgumentException if the sort is not allowed
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<Task> getTasksByAuthorId(Long authorId, Pageable pageable) {
-        return taskRepository.findByAuthorId(authorId, pageable);
+        return taskRepository.findByAuthorId(authorId, TaskSortPolicy.apply(pageable, TaskSortPolicy.AUTHOR));
     }
 
     /**
      * Retrieves tasks by the given assignee ID with pagination.
      *
+     * The sort is restricted by {@link TaskSortPolicy}.
+     *
      * @param assigneeId the ID of the assignee
      * @param pageable   the pagination information
      * @return a page of tasks assigned to the assignee
+     * @throws IllegalArgumentException if the sort is not allowed
      */
     @Override
+    @Transactional(readOnly = true)
     public Page<Task> getTasksByAssigneeId(Long assigneeId, Pageable pageable) {
-        return taskRepository.findByAssigneeId(assigneeId, pageable);
+        return taskRepository.findByAssigneeId(assigneeId, TaskSortPolicy.apply(pageable, TaskSortPolicy.ASSIGNEE));
+    }
+
+    /**
+     * Retrieves tasks by the given author ID, one page after the given cursor.
+     *
+     * @param authorId the ID of the author
+     * @param order    the order in which the tasks are traversed
+     * @param after    the cursor returned with the previous page, or null for the first page
+     * @param limit    the maximum number of tasks on the page
+     * @return a page of tasks created by the author, with the cursor of the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Task> getTasksByAuthorId(Long authorId, TaskSeekOrder order, String after, int limit) {
+        return seek(order, after, limit, (priority, afterId, max) -> priority == null
+                ? taskRepository.findByAuthorIdAndIdGreaterThanOrderByIdAsc(authorId, afterId, max)
+                : taskRepository.findByAuthorIdAndPriorityAndIdGreaterThanOrderByIdAsc(authorId, priority, afterId, max));
+    }
+
+    /**
+     * Retrieves tasks by the given assignee ID, one page after the given cursor.
+     *
+     * @param assigneeId the ID of the assignee
+     * @param order      the order in which the tasks are traversed
+     * @param after      the cursor returned with the previous page, or null for the first page
+     * @param limit      the maximum number of tasks on the page
+     * @return a page of tasks assigned to the assignee, with the cursor of the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Task> getTasksByAssigneeId(Long assigneeId, TaskSeekOrder order, String after, int limit) {
+        return seek(order, after, limit, (priority, afterId, max) -> priority == null
+                ? taskRepository.findByAssigneeIdAndIdGreaterThanOrderByIdAsc(assigneeId, afterId, max)
+                : taskRepository.findByAssigneeIdAndPriorityAndIdGreaterThanOrderByIdAsc(assigneeId, priority, afterId, max));
+    }
+
+    /**
+     * Reads one page by seeking past the cursor. One row more than requested is read to find out
+     * whether a next page exists. In priority order, the priorities are read one after another,
+     * from the priority of the cursor on, each with an index seek on (priority, id).
+     */
+    private CursorPage<Task> seek(TaskSeekOrder order, String after, int limit, TaskSeek query) {
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageLimit);
+        }
+        KeysetCursor cursor = after == null || after.isEmpty() ? null : KeysetCursor.decode(after, order);
+
+        List<Task> tasks = new ArrayList<>(limit + 1);
+        if (order == TaskSeekOrder.ID) {
+            tasks.addAll(query.find(null, cursor == null ? 0L : cursor.getId(), Limit.of(limit + 1)));
+        } else {
+            for (TaskPriority priority : TaskPriority.values()) {
+                if (cursor != null && priority.ordinal() < cursor.getPriority().ordinal()) {
+                    continue;
+                }
+                long afterId = cursor != null && priority == cursor.getPriority() ? cursor.getId() : 0L;
+                tasks.addAll(query.find(priority, afterId, Limit.of(limit + 1 - tasks.size())));
+                if (tasks.size() > limit) {
+                    break;
+                }
+            }
+        }
+
+        if (tasks.size() <= limit) {
+            return new CursorPage<>(tasks, null);
+        }
+        List<Task> page = tasks.subList(0, limit);
+        Task last = page.get(limit - 1);
+        KeysetCursor next = order == TaskSeekOrder.ID
+                ? KeysetCursor.afterId(last.getId())
+                : KeysetCursor.afterPriority(last.getPriority(), last.getId());
+        return new CursorPage<>(new ArrayList<>(page), next.encode());
+    }
+
+    /**
+     * Query reading the tasks that follow a given ID, optionally restricted to one priority.
+     */
+    @FunctionalInterface
+    private interface TaskSeek {
+        List<Task> find(TaskPriority priority, Long afterId, Limit limit);
+    }
+
+    /**
+     * Searches tasks by the words of their title and description, most relevant first.
+     * The page of matches is read with a seek past the rank and ID of the cursor; the matched
+     * tasks are then loaded with their authors and assignees in one more query.
+     *
+     * @param query the search query; supports quoted phrases, {@code or} and {@code -} to exclude words
+     * @param after the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of tasks on the page
+     * @return a page of found tasks with highlighted fragments, with the cursor of the next page
+     * @throws IllegalArgumentException if the query is blank, or the cursor or limit is invalid
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<TaskSearchHit> searchTasks(String query, String after, int limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (limit < 1 || limit > maxPageLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxPageLimit);
+        }
+        SearchCursor cursor = after == null || after.isEmpty() ? null : SearchCursor.decode(after);
+
+        List<TaskSearchMatch> matches = taskRepository.searchTasks(query,
+                cursor == null ? null : cursor.getRank(), cursor == null ? 0L : cursor.getId(), limit + 1);
+        List<TaskSearchMatch> page = matches.subList(0, Math.min(limit, matches.size()));
+        Map<Long, Task> tasks = taskRepository.findByIdIn(page.stream().map(TaskSearchMatch::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskSearchHit> hits = new ArrayList<>(page.size());
+        for (TaskSearchMatch match : page) {
+            Task task = tasks.get(match.getId());
+            if (task != null) {
+                hits.add(new TaskSearchHit(task, match.getRank(), match.getTitleHighlight(),
+                        match.getDescriptionHighlight()));
+            }
+        }
+        if (matches.size() <= limit) {
+            return new CursorPage<>(hits, null);
+        }
+        TaskSearchMatch last = page.get(limit - 1);
+        return new CursorPage<>(hits, SearchCursor.after(last.getRank(), last.getId()).encode());
     }
 
     /**
      * Retrieves a task by its ID.
+     * A task found in the second-level cache comes without the fetch graph applied, so its author and
+     * assignee are initialized here, from the cache as well once they are cached.
      *
      * @param taskId the ID of the task
      * @return an Optional containing the task if found, or empty if not found
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long taskId) {
-        return taskRepository.findById(taskId);
+        Optional<Task> task = taskRepository.findById(taskId);
+        task.ifPresent(found -> {
+            Hibernate.initialize(found.getAuthor());
+            Hibernate.initialize(found.getAssignee());
+        });
+        return task;
     }
 
     /**
-     * Updates an existing task.
+     * Retrieves the version of a task with a single-column query, without loading the task itself.
+     *
+     * @param taskId the ID of the task
+     * @return an Optional containing the version if the task exists, or empty if not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> getTaskVersion(Long taskId) {
+        return taskRepository.findVersionById(taskId);
+    }
+
+    /**
+     * Updates an existing task and moves it between the counters when its status, priority or assignee changes.
      *
      * @param taskId      the ID of the task to update
      * @param taskDetails the new details of the task
      * @return the updated task
      */
     @Override
+    @Transactional
     public Task updateTask(Long taskId, Task taskDetails) {
+        return updateTask(taskId, taskDetails, null);
+    }
+
+    /**
+     * Updates an existing task only if it is still at the expected version.
+     * The version is checked once against the loaded task and once more by the versioned UPDATE,
+     * so a concurrent update committed in between fails with an optimistic locking exception.
+     *
+     * @param taskId          the ID of the task to update
+     * @param taskDetails     the new details of the task
+     * @param expectedVersion the version the client has seen, or null to update any version
+     * @return the updated task
+     */
+    @Override
+    @Transactional
+    public Task updateTask(Long taskId, Task taskDetails, Long expectedVersion) {
         return taskRepository.findById(taskId).map(task -> {
+            if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+                throw new TaskVersionMismatchException(taskId, task.getVersion());
+            }
+            TaskCounterDeltas deltas = new TaskCounterDeltas().remove(task);
             task.setTitle(taskDetails.getTitle());
             task.setDescription(taskDetails.getDescription());
             task.setStatus(taskDetails.getStatus());
             task.setPriority(taskDetails.getPriority());
             task.setAssignee(taskDetails.getAssignee());
-            return taskRepository.save(task);
+            Task updated = taskRepository.save(task);
+            taskCounterRepository.applyDeltas(deltas.add(updated));
+            return updated;
         }).orElseThrow(() -> new RuntimeException("Task not found with id " + taskId));
     }
 
     /**
-     * Deletes a task by its ID.
+     * Changes only the fields present in the patch with a single UPDATE that returns the new row,
+     * without loading the task first. A missing task is detected from the empty result; only then is
+     * the version read, to tell a stale version from a missing task.
+     *
+     * @param taskId          the ID of the task to update
+     * @param patch           the fields to change
+     * @param expectedVersion the version the client has seen, or null to update any version
+     * @return an Optional containing the updated task, or empty if not found
+     * @throws IllegalArgumentException if the patch assigns the task to an unknown user
+     */
+    @Override
+    @Transactional
+    public Optional<Task> patchTask(Long taskId, TaskPatch patch, Long expectedVersion) {
+        if (patch.isAssigneeIdPresent()) {
+            checkAssignee(patch.getAssigneeId());
+        }
+        if (patch.isEmpty()) {
+            Optional<Task> task = taskRepository.findById(taskId);
+            if (task.isPresent() && expectedVersion != null && !expectedVersion.equals(task.get().getVersion())) {
+                throw new TaskVersionMismatchException(taskId, task.get().getVersion());
+            }
+            return task;
+        }
+        Optional<PatchedTask> patched = taskRepository.patchTask(taskId, patch, expectedVersion);
+        if (patched.isEmpty()) {
+            if (expectedVersion != null) {
+                taskRepository.findVersionById(taskId).ifPresent(version -> {
+                    throw new TaskVersionMismatchException(taskId, version);
+                });
+            }
+            return Optional.empty();
+        }
+        PatchedTask result = patched.get();
+        Task task = result.getTask();
+        evictTasks(List.of(taskId));
+        Long authorId = task.getAuthor() == null ? null : task.getAuthor().getId();
+        TaskCounterDeltas deltas = new TaskCounterDeltas()
+                .add(authorId, result.getPreviousAssigneeId(), result.getPreviousStatus(), result.getPreviousPriority(), -1)
+                .add(task);
+        taskCounterRepository.applyDeltas(deltas);
+        return Optional.of(task);
+    }
+
+    /**
+     * Moves the selected tasks to a new status, one chunk of {@code tasks.bulk-update.chunk-size} tasks
+     * per statement and transaction, and moves them between the counters in the same transaction.
+     *
+     * @param update the selected tasks and their new status
+     * @return the number of tasks that were changed
+     * @throws IllegalArgumentException if the selection is missing, ambiguous or too large
+     */
+    @Override
+    public long updateTaskStatuses(TaskBulkStatusUpdate update) {
+        checkSelection(update);
+        return updateInChunks(afterId ->
+                taskRepository.updateStatusChunk(update, update.getStatus(), afterId, bulkUpdateChunkSize));
+    }
+
+    /**
+     * Assigns the selected tasks to another user, one chunk of {@code tasks.bulk-update.chunk-size} tasks
+     * per statement and transaction, and moves them between the counters in the same transaction.
+     *
+     * @param reassignment the selected tasks and their new assignee
+     * @return the number of tasks that were changed
+     * @throws IllegalArgumentException if the selection is missing, ambiguous or too large,
+     *                                  or the new assignee is an unknown user
+     */
+    @Override
+    public long reassignTasks(TaskBulkReassignment reassignment) {
+        checkSelection(reassignment);
+        checkAssignee(reassignment.getAssigneeId());
+        return updateInChunks(afterId ->
+                taskRepository.reassignChunk(reassignment, reassignment.getAssigneeId(), afterId, bulkUpdateChunkSize));
+    }
+
+    /**
+     * Updates chunks in ID order until a chunk comes back smaller than the chunk size.
+     * Each chunk is committed on its own, so row locks are held only for one chunk, and the changed
+     * tasks are evicted from the second-level cache.
+     */
+    private long updateInChunks(LongFunction<BulkUpdateChunk> updateChunk) {
+        long updated = 0;
+        long afterId = 0;
+        while (true) {
+            long from = afterId;
+            BulkUpdateChunk chunk = transactionTemplate.execute(status -> {
+                BulkUpdateChunk result = updateChunk.apply(from);
+                taskCounterRepository.applyDeltas(result.getDeltas());
+                evictTasks(result.getIds());
+                return result;
+            });
+            updated += chunk.getIds().size();
+            if (chunk.getIds().size() < bulkUpdateChunkSize) {
+                return updated;
+            }
+            afterId = chunk.getLastId();
+        }
+    }
+
+    private void checkSelection(TaskSelection selection) {
+        boolean hasIds = selection.getIds() != null;
+        boolean hasFilter = selection.getFilter() != null;
+        if (hasIds == hasFilter) {
+            throw new IllegalArgumentException("Exactly one of ids and filter must be given");
+        }
+        if (hasIds && selection.getIds().size() > batchMaxSize) {
+            throw new IllegalArgumentException("Bulk update is limited to " + batchMaxSize + " ids");
+        }
+        if (hasFilter && !hasCriteria(selection.getFilter())) {
+            throw new IllegalArgumentException("Filter must set at least one criterion");
+        }
+    }
+
+    /**
+     * Rejects an unknown assignee up front, before the update would fail on the foreign key.
+     */
+    private void checkAssignee(Long assigneeId) {
+        if (assigneeId != null && !userRepository.existsById(assigneeId)) {
+            throw new IllegalArgumentException("User not found with id " + assigneeId);
+        }
+    }
+
+    private static boolean hasCriteria(TaskFilter filter) {
+        return filter.getStatus() != null || filter.getPriority() != null || filter.getAuthorId() != null
+                || filter.getAssigneeId() != null
+                || (filter.getTitlePrefix() != null && !filter.getTitlePrefix().isEmpty());
+    }
+
+    /**
+     * Deletes a task by its ID with a single UPDATE that marks it as deleted, and removes it from the counters.
+     * The task and its comments are removed from the database later by the {@link TaskPurgeServiceImpl}.
      *
      * @param taskId the ID of the task to delete
      */
     @Override
+    @Transactional
     public void deleteTask(Long taskId) {
-        if (taskRepository.existsById(taskId)) {
-            taskRepository.deleteById(taskId);
-        } else {
-            throw new RuntimeException("Task not found with id " + taskId);
+        TaskCounterDeltas deltas = taskRepository.softDeleteTask(taskId)
+                .orElseThrow(() -> new RuntimeException("Task not found with id " + taskId));
+        taskCounterRepository.applyDeltas(deltas);
+        evictTasks(List.of(taskId));
+    }
+
+    /**
+     * Evicts tasks changed outside of Hibernate from the second-level cache, once right away and
+     * once more when the transaction completes, so a reader running in between cannot leave the old
+     * row cached.
+     */
+    private void evictTasks(List<Long> taskIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        taskIds.forEach(id -> cache.evict(Task.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    taskIds.forEach(id -> cache.evict(Task.class, id));
+                }
+            });
+        }
+    }
+
+    /**
+     * Retrieves the number of tasks of a user by status and priority, as author and as assignee.
+     * Reads the maintained counters only, at most one row per role, status and priority.
+     *
+     * @param userId the ID of the user
+     * @return the task statistics of the user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStats getTaskStats(Long userId) {
+        Map<TaskRole, Map<TaskStatus, Map<TaskPriority, Long>>> counts = new EnumMap<>(TaskRole.class);
+        for (TaskRole role : TaskRole.values()) {
+            Map<TaskStatus, Map<TaskPriority, Long>> byStatus = new EnumMap<>(TaskStatus.class);
+            for (TaskStatus status : TaskStatus.values()) {
+                Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+                for (TaskPriority priority : TaskPriority.values()) {
+                    byPriority.put(priority, 0L);
+                }
+                byStatus.put(status, byPriority);
+            }
+            counts.put(role, byStatus);
+        }
+        for (TaskCounter counter : taskCounterRepository.findByIdUserId(userId)) {
+            TaskCounterId id = counter.getId();
+            counts.get(id.getRole()).get(id.getStatus()).put(id.getPriority(), counter.getTaskCount());
+        }
+        return new TaskStats(userId, roleStats(counts.get(TaskRole.AUTHOR)), roleStats(counts.get(TaskRole.ASSIGNEE)));
+    }
+
+    private static TaskStats.RoleStats roleStats(Map<TaskStatus, Map<TaskPriority, Long>> counts) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        long total = 0;
+        for (Map.Entry<TaskStatus, Map<TaskPriority, Long>> status : counts.entrySet()) {
+            for (Map.Entry<TaskPriority, Long> priority : status.getValue().entrySet()) {
+                byStatus.merge(status.getKey(), priority.getValue(), Long::sum);
+                byPriority.merge(priority.getKey(), priority.getValue(), Long::sum);
+                total += priority.getValue();
+            }
         }
+        return new TaskStats.RoleStats(total, byStatus, byPriority, counts);
     }
 }
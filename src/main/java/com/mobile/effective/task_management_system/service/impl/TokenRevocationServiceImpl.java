@@ -0,0 +1,175 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.jwt.JwtAuthenticationCache;
+import com.mobile.effective.task_management_system.jwt.TokenBloomFilter;
+import com.mobile.effective.task_management_system.jwt.VerifiedToken;
+import com.mobile.effective.task_management_system.model.RevokedToken;
+import com.mobile.effective.task_management_system.repository.RevokedTokenRepository;
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the TokenRevocationService interface.
+ * Revoked token IDs are stored in the {@code revoked_token} table and mirrored in an in-memory
+ * Bloom filter. A token is looked up in the database only when the filter reports a possible match,
+ * so the common case of a non-revoked token costs no query. The filter is rebuilt periodically,
+ * which also propagates revocations made on other application instances.
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final JwtAuthenticationCache authenticationCache;
+    private final double falsePositiveRate;
+    private final long expectedInsertions;
+
+    private final Timer rebuildTimer;
+    private final Counter negativeChecks;
+    private final Counter possibleMatches;
+    private final Counter falsePositives;
+
+    /**
+     * Current filter; null until it is built for the first time, in which case every check goes to the database.
+     */
+    private volatile TokenBloomFilter filter;
+
+    /**
+     * Tokens revoked on this instance that have not yet been seen by a rebuild,
+     * so a rebuild racing with a revocation cannot drop it from the filter.
+     */
+    private final Set<String> unconfirmedRevocations = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a TokenRevocationServiceImpl.
+     *
+     * @param revokedTokenRepository the repository used to store revoked tokens
+     * @param authenticationCache    the cache from which revoked tokens are removed
+     * @param meterRegistry          the registry to which the filter metrics are bound
+     * @param falsePositiveRate      the false-positive rate the filter is sized for
+     * @param expectedInsertions     the minimum number of revoked tokens the filter is sized for
+     */
+    @Autowired
+    public TokenRevocationServiceImpl(RevokedTokenRepository revokedTokenRepository,
+                                      JwtAuthenticationCache authenticationCache,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                      @Value("${jwt.revocation.expected-insertions:10000}") long expectedInsertions) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.authenticationCache = authenticationCache;
+        this.falsePositiveRate = falsePositiveRate;
+        this.expectedInsertions = expectedInsertions;
+        this.rebuildTimer = Timer.builder("jwt.revocation.filter.rebuild")
+                .description("Time taken to rebuild the revoked token filter")
+                .register(meterRegistry);
+        this.negativeChecks = Counter.builder("jwt.revocation.filter.checks")
+                .tag("result", "negative")
+                .register(meterRegistry);
+        this.possibleMatches = Counter.builder("jwt.revocation.filter.checks")
+                .tag("result", "possible_match")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.filter.false.positives")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Revokes the given token, so it is no longer accepted for authentication.
+     *
+     * @param verifiedToken the verified token to revoke
+     * @throws IllegalArgumentException if the token has no ID
+     */
+    @Override
+    @Transactional
+    public void revoke(VerifiedToken verifiedToken) {
+        String tokenId = verifiedToken.getId();
+        if (tokenId == null) {
+            throw new IllegalArgumentException("Token without an ID cannot be revoked");
+        }
+
+        if (!revokedTokenRepository.existsById(tokenId)) {
+            RevokedToken revokedToken = new RevokedToken();
+            revokedToken.setJti(tokenId);
+            revokedToken.setExpiresAt(verifiedToken.getExpiration().toInstant());
+            revokedToken.setRevokedAt(Instant.now());
+            revokedTokenRepository.save(revokedToken);
+        }
+
+        unconfirmedRevocations.add(tokenId);
+        TokenBloomFilter current = filter;
+        if (current != null) {
+            current.put(tokenId);
+        }
+        authenticationCache.invalidate(verifiedToken.getToken());
+    }
+
+    /**
+     * Checks whether the token with the given ID has been revoked.
+     * The database is queried only when the in-memory filter reports a possible match.
+     *
+     * @param tokenId the ID ({@code jti}) of the token, may be null for tokens issued without one
+     * @return true if the token has been revoked, false otherwise
+     */
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        TokenBloomFilter current = filter;
+        if (current != null && !current.mightContain(tokenId)) {
+            negativeChecks.increment();
+            return false;
+        }
+
+        possibleMatches.increment();
+        boolean revoked = revokedTokenRepository.existsById(tokenId);
+        if (!revoked && current != null) {
+            falsePositives.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Rebuilds the in-memory filter of revoked token IDs from the database
+     * and removes revocation records of expired tokens.
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${jwt.revocation.rebuild-interval:60000}")
+    public void rebuildFilter() {
+        rebuildTimer.record(() -> {
+            Instant now = Instant.now();
+            int purged = revokedTokenRepository.deleteExpired(now);
+
+            Set<String> tokenIds = new HashSet<>(revokedTokenRepository.findActiveTokenIds(now));
+            TokenBloomFilter rebuilt = new TokenBloomFilter(
+                    Math.max(expectedInsertions, tokenIds.size() * 2L), falsePositiveRate);
+            tokenIds.forEach(rebuilt::put);
+            for (String tokenId : unconfirmedRevocations) {
+                rebuilt.put(tokenId);
+                if (tokenIds.contains(tokenId)) {
+                    unconfirmedRevocations.remove(tokenId);
+                }
+            }
+            filter = rebuilt;
+            // A revocation made while the filter was being rebuilt may have reached only the old filter
+            unconfirmedRevocations.forEach(rebuilt::put);
+            logger.debug("Rebuilt revoked token filter with {} tokens, purged {} expired", tokenIds.size(), purged);
+        });
+    }
+}
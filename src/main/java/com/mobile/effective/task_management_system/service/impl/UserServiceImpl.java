@@ -1,16 +1,29 @@
 package com.mobile.effective.task_management_system.service.impl;
 
+import com.mobile.effective.task_management_system.dto.UserRegistrationResult;
 import com.mobile.effective.task_management_system.model.User;
 import com.mobile.effective.task_management_system.repository.UserRepository;
+import com.mobile.effective.task_management_system.service.PasswordHashingService;
 import com.mobile.effective.task_management_system.service.UserService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the UserService interface and Spring Security UserDetailsService.
@@ -19,37 +32,130 @@ import java.util.Optional;
 public class UserServiceImpl implements UserService, UserDetailsService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final int bulkBatchSize;
+    private final int bulkMaxSize;
 
     /**
-     * Constructs a UserServiceImpl with the specified UserRepository and PasswordEncoder.
+     * Constructs a UserServiceImpl with the specified UserRepository and PasswordHashingService.
      *
-     * @param userRepository  the repository used to perform CRUD operations on User entities
-     * @param passwordEncoder the encoder used to hash user passwords
+     * @param userRepository         the repository used to perform CRUD operations on User entities
+     * @param passwordHashingService the service used to hash user passwords on the bounded hashing executor
+     * @param validator              the validator used to check users of a bulk registration
+     * @param bulkBatchSize          the number of users inserted per statement in a bulk registration
+     * @param bulkMaxSize            the maximum number of users in a single bulk registration
      */
     @Autowired
-    public UserServiceImpl(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserServiceImpl(UserRepository userRepository, PasswordHashingService passwordHashingService,
+                           Validator validator,
+                           @Value("${users.bulk.batch-size:1000}") int bulkBatchSize,
+                           @Value("${users.bulk.max-size:10000}") int bulkMaxSize) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingService = passwordHashingService;
+        this.validator = validator;
+        this.bulkBatchSize = bulkBatchSize;
+        this.bulkMaxSize = bulkMaxSize;
     }
 
     /**
      * Registers a new user with the given email, password, and name.
+     * The password is hashed on the bounded password hashing executor.
      *
      * @param email    the email of the user
      * @param password the password of the user
      * @param name     the name of the user
      * @return the registered user
+     * @throws IllegalArgumentException if the email is already registered in any case
      */
     @Override
     public User registerUser(String email, String password, String name) {
+        if (userRepository.findByEmailIgnoreCase(email).isPresent()) {
+            throw new IllegalArgumentException("Email is already registered: " + email);
+        }
         User user = new User();
         user.setEmail(email);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(passwordHashingService.encode(password).join());
         user.setName(name);
         return userRepository.save(user);
     }
 
+    /**
+     * Registers many users at once.
+     * Invalid users and users whose email is taken are reported without hashing their passwords;
+     * emails are compared ignoring case.
+     * The remaining passwords are hashed in parallel on the fork-join pool, and the users are
+     * inserted in chunks of {@code users.bulk.batch-size}, each chunk in a single statement.
+     * An email taken concurrently by another request is reported as a conflict.
+     *
+     * @param users the users to register, with raw passwords
+     * @return the outcome for each user, in the order of the input
+     * @throws IllegalArgumentException if the request contains more users than allowed
+     */
+    @Override
+    public List<UserRegistrationResult> registerUsers(List<User> users) {
+        if (users.size() > bulkMaxSize) {
+            throw new IllegalArgumentException("Bulk registration is limited to " + bulkMaxSize + " users");
+        }
+
+        UserRegistrationResult[] results = new UserRegistrationResult[users.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            Set<ConstraintViolation<User>> violations = validator.validate(user);
+            if (!violations.isEmpty()) {
+                String message = violations.stream().map(ConstraintViolation::getMessage).sorted()
+                        .collect(Collectors.joining("; "));
+                results[i] = rejected(i, user.getEmail(), UserRegistrationResult.Status.INVALID, message);
+            } else if (candidates.putIfAbsent(user.getEmail().toLowerCase(Locale.ROOT), i) != null) {
+                results[i] = rejected(i, user.getEmail(), UserRegistrationResult.Status.CONFLICT,
+                        "Email повторяется в запросе");
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            for (String email : userRepository.findExistingEmails(candidates.keySet())) {
+                int index = candidates.remove(email);
+                results[index] = rejected(index, users.get(index).getEmail(), UserRegistrationResult.Status.CONFLICT,
+                        "Email уже занят");
+            }
+        }
+
+        List<Integer> indexes = new ArrayList<>(candidates.values());
+        List<String> encodedPasswords = passwordHashingService
+                .encodeAll(indexes.stream().map(i -> users.get(i).getPassword()).toList())
+                .join();
+
+        for (int from = 0; from < indexes.size(); from += bulkBatchSize) {
+            int to = Math.min(from + bulkBatchSize, indexes.size());
+            List<User> chunk = new ArrayList<>(to - from);
+            for (int j = from; j < to; j++) {
+                User source = users.get(indexes.get(j));
+                User user = new User();
+                user.setEmail(source.getEmail());
+                user.setPassword(encodedPasswords.get(j));
+                user.setName(source.getName());
+                chunk.add(user);
+            }
+
+            Map<String, Long> ids = userRepository.insertSkippingConflicts(chunk);
+            for (int j = from; j < to; j++) {
+                int index = indexes.get(j);
+                String email = users.get(index).getEmail();
+                Long id = ids.get(email);
+                results[index] = id != null
+                        ? new UserRegistrationResult(index, email, UserRegistrationResult.Status.CREATED, id, null)
+                        : rejected(index, email, UserRegistrationResult.Status.CONFLICT, "Email уже занят");
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static UserRegistrationResult rejected(int index, String email, UserRegistrationResult.Status status,
+                                                   String message) {
+        return new UserRegistrationResult(index, email, status, null, message);
+    }
+
     /**
      * Finds a user by email.
      *
@@ -57,6 +163,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
      * @return an Optional containing the user if found, or empty if not found
      */
     @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
@@ -70,6 +177,7 @@ public class UserServiceImpl implements UserService, UserDetailsService {
      * @throws UsernameNotFoundException if the user is not found
      */
     @Override
+    @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + username));
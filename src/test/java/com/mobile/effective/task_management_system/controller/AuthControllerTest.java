@@ -0,0 +1,149 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.jwt.VerifiedToken;
+import com.mobile.effective.task_management_system.service.AuthService;
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuthController.class)
+public class AuthControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AuthService authService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    @WithMockUser
+    void login_ShouldReturnToken() throws Exception {
+
+        when(authService.login("test@example.com", "password")).thenReturn(CompletableFuture.completedFuture("token"));
+
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"test@example.com\",\"password\":\"password\"}")
+                        .with(csrf()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").value("token"));
+
+        verify(authService).login("test@example.com", "password");
+    }
+
+    @Test
+    @WithMockUser
+    void login_ShouldReturnUnauthorized_WhenCredentialsAreWrong() throws Exception {
+
+        when(authService.login("test@example.com", "wrong"))
+                .thenReturn(CompletableFuture.failedFuture(new BadCredentialsException("Invalid email or password")));
+
+
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"test@example.com\",\"password\":\"wrong\"}")
+                        .with(csrf()))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser
+    void login_ShouldReturnServiceUnavailable_WhenHashingExecutorIsSaturated() throws Exception {
+
+        when(authService.login(any(), any()))
+                .thenThrow(new ServiceOverloadedException("Password hashing capacity exceeded", 1, null));
+
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"test@example.com\",\"password\":\"password\"}")
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @WithMockUser
+    void login_ShouldReturnBadRequest_WhenEmailIsMissing() throws Exception {
+
+        mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\":\"\",\"password\":\"password\"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(authService, never()).login(any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void logout_ShouldRevokeToken() throws Exception {
+
+        Claims claims = Jwts.claims().setSubject("test@example.com");
+        claims.setId("token-id");
+        VerifiedToken verifiedToken = new VerifiedToken("token", claims);
+        when(jwtTokenProvider.resolveToken(any())).thenReturn("token");
+        when(jwtTokenProvider.verifyToken("token")).thenReturn(verifiedToken);
+
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer token")
+                        .with(csrf()))
+                .andExpect(status().isNoContent());
+
+        verify(tokenRevocationService).revoke(verifiedToken);
+    }
+
+    @Test
+    @WithMockUser
+    void logout_ShouldReturnUnauthorized_WhenTokenIsInvalid() throws Exception {
+
+        when(jwtTokenProvider.resolveToken(any())).thenReturn("token");
+        when(jwtTokenProvider.verifyToken("token")).thenReturn(null);
+
+
+        mockMvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer token")
+                        .with(csrf()))
+                .andExpect(status().isUnauthorized());
+
+        verify(tokenRevocationService, never()).revoke(any());
+    }
+}
@@ -1,5 +1,6 @@
 package com.mobile.effective.task_management_system.controller;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
 import com.mobile.effective.task_management_system.model.Comment;
 import com.mobile.effective.task_management_system.service.CommentService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +9,7 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -59,20 +61,41 @@ public class CommentControllerTest {
 
     @Test
     @WithMockUser
-    void getCommentsByTaskId_ShouldReturnListOfComments() throws Exception {
+    void getCommentsByTaskId_ShouldReturnPageOfComments() throws Exception {
 
         Long taskId = 1L;
         Comment comment = new Comment();
         comment.setContent("Test comment");
         List<Comment> comments = Collections.singletonList(comment);
-        when(commentService.getCommentByTaskId(taskId)).thenReturn(comments);
+        when(commentService.getCommentsByTaskId(taskId, Sort.Direction.ASC, null, 20))
+                .thenReturn(new CursorPage<>(comments, "next"));
 
 
         mockMvc.perform(get("/api/comments/task/{taskId}", taskId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].content").value("Test comment"));
+                .andExpect(jsonPath("$.items[0].content").value("Test comment"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
 
-        verify(commentService).getCommentByTaskId(taskId);
+        verify(commentService).getCommentsByTaskId(taskId, Sort.Direction.ASC, null, 20);
+    }
+
+    @Test
+    @WithMockUser
+    void getCommentsByTaskId_ShouldPassCursorAndDirection() throws Exception {
+
+        Long taskId = 1L;
+        when(commentService.getCommentsByTaskId(taskId, Sort.Direction.DESC, "cursor", 50))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
+
+
+        mockMvc.perform(get("/api/comments/task/{taskId}", taskId)
+                        .param("after", "cursor")
+                        .param("limit", "50")
+                        .param("direction", "DESC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty());
+
+        verify(commentService).getCommentsByTaskId(taskId, Sort.Direction.DESC, "cursor", 50);
     }
 }
\ No newline at end of file
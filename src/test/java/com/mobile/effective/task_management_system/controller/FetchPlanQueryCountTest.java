@@ -0,0 +1,300 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.model.Comment;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.repository.CommentRepository;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import com.mobile.effective.task_management_system.service.TaskExportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the number of SQL statements each read endpoint runs against an in-memory database,
+ * so lazy associations that start loading one by one are caught.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fetch-plan;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.liquibase.enabled=false",
+        "debug=false"})
+@AutoConfigureMockMvc
+@WithMockUser
+public class FetchPlanQueryCountTest {
+
+    private static final SqlStatementCounter STATEMENT_COUNTER = new SqlStatementCounter();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User author;
+    private User assignee;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        author = userRepository.save(user("author@example.com", "Author"));
+        assignee = userRepository.save(user("assignee@example.com", "Assignee"));
+        List<Task> tasks = taskRepository.saveAll(List.of(task("First"), task("Second"), task("Third")));
+        task = tasks.get(0);
+        commentRepository.saveAll(List.of(comment("First comment"), comment("Second comment")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        commentRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldRunPageAndCountQueriesOnly() throws Exception {
+
+        ResultActions result = performCounting(2, get("/api/tasks/author/{authorId}", author.getId())
+                .param("page", "0")
+                .param("size", "2"));
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].author.name").value("Author"))
+                .andExpect(jsonPath("$.content[1].assignee.name").value("Assignee"));
+    }
+
+    @Test
+    void getTasksByAssigneeId_ShouldRunPageAndCountQueriesOnly() throws Exception {
+
+        ResultActions result = performCounting(2, get("/api/tasks/assignee/{assigneeId}", assignee.getId())
+                .param("page", "0")
+                .param("size", "2"));
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].author.name").value("Author"))
+                .andExpect(jsonPath("$.content[1].assignee.name").value("Assignee"));
+    }
+
+    @Test
+    void getTasksByAuthorIdAfterCursor_ShouldRunSingleQueryWithoutCount() throws Exception {
+
+        ResultActions result = performCounting(1, get("/api/tasks/author/{authorId}", author.getId())
+                .param("limit", "2"));
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].author.name").value("Author"))
+                .andExpect(jsonPath("$.items[1].assignee.name").value("Assignee"))
+                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+    }
+
+    @Test
+    void getTasksByFilter_ShouldRunSingleQuery_WhenPageIsNotFull() throws Exception {
+
+        ResultActions result = performCounting(1, get("/api/tasks")
+                .param("status", "PENDING")
+                .param("authorId", author.getId().toString())
+                .param("titlePrefix", "fir")
+                .param("size", "10"));
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.content[0].title").value("First"))
+                .andExpect(jsonPath("$.content[0].assignee.name").value("Assignee"));
+    }
+
+    @Test
+    void getTaskById_ShouldRunSingleQuery_ThenBeServedFromSecondLevelCache() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        ResultActions first = performCounting(1, get("/api/tasks/{taskId}", task.getId()));
+        ResultActions second = performCounting(0, get("/api/tasks/{taskId}", task.getId()));
+
+
+        first.andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.name").value("Author"))
+                .andExpect(jsonPath("$.assignee.name").value("Assignee"));
+        second.andExpect(status().isOk())
+                .andExpect(jsonPath("$.author.name").value("Author"))
+                .andExpect(jsonPath("$.assignee.name").value("Assignee"));
+    }
+
+    @Test
+    void findByEmail_ShouldBeServedFromSecondLevelCache_WhenRepeated() {
+        entityManagerFactory.getCache().evictAll();
+        userRepository.findByEmail("author@example.com");
+
+        STATEMENT_COUNTER.start();
+        try {
+            assertEquals("Author", userRepository.findByEmail("author@example.com").orElseThrow().getName());
+            assertEquals(0, STATEMENT_COUNTER.count());
+        } finally {
+            STATEMENT_COUNTER.stop();
+        }
+    }
+
+    @Test
+    void exportTasks_ShouldNotFillSecondLevelCache() throws Exception {
+        entityManagerFactory.getCache().evictAll();
+
+        long exported = taskExportService.exportTasks(null, null, new ByteArrayOutputStream());
+
+
+        assertEquals(3, exported);
+        assertFalse(entityManagerFactory.getCache().contains(Task.class, task.getId()));
+        assertFalse(entityManagerFactory.getCache().contains(User.class, author.getId()));
+    }
+
+    @Test
+    void getCommentsByTaskId_ShouldRunSingleQuery() throws Exception {
+
+        ResultActions result = performCounting(1, get("/api/comments/task/{taskId}", task.getId()));
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].author.name").value("Assignee"))
+                .andExpect(jsonPath("$.items[1].task.author.name").value("Author"))
+                .andExpect(jsonPath("$.items[1].task.assignee.name").value("Assignee"));
+    }
+
+    @Test
+    void getCommentsByTaskId_ShouldRunSingleQueryReturningNoComments_WhenTaskIsDeleted() throws Exception {
+        jdbcTemplate.update("UPDATE task SET deleted = true WHERE id = ?", task.getId());
+
+        ResultActions result;
+        try {
+            result = performCounting(1, get("/api/comments/task/{taskId}", task.getId()));
+        } finally {
+            jdbcTemplate.update("UPDATE task SET deleted = false WHERE id = ?", task.getId());
+        }
+
+
+        result.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0));
+    }
+
+    private ResultActions performCounting(int expectedStatements, RequestBuilder request) throws Exception {
+        STATEMENT_COUNTER.start();
+        try {
+            ResultActions result = mockMvc.perform(request);
+            assertEquals(expectedStatements, STATEMENT_COUNTER.count());
+            return result;
+        } finally {
+            STATEMENT_COUNTER.stop();
+        }
+    }
+
+    private static User user(String email, String name) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("password");
+        user.setName(name);
+        return user;
+    }
+
+    private Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.HIGH);
+        task.setAuthor(author);
+        task.setAssignee(assignee);
+        return task;
+    }
+
+    private Comment comment(String content) {
+        Comment comment = new Comment();
+        comment.setContent(content);
+        comment.setTask(task);
+        comment.setAuthor(assignee);
+        return comment;
+    }
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCounterCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, STATEMENT_COUNTER);
+        }
+    }
+
+    /**
+     * Counts the SQL statements prepared by the thread that started counting,
+     * ignoring background work such as scheduled jobs.
+     */
+    static final class SqlStatementCounter implements StatementInspector {
+
+        private final ThreadLocal<int[]> counts = new ThreadLocal<>();
+
+        void start() {
+            counts.set(new int[1]);
+        }
+
+        int count() {
+            return counts.get()[0];
+        }
+
+        void stop() {
+            counts.remove();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            int[] count = counts.get();
+            if (count != null) {
+                count[0]++;
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.dto.ImportJobStatus;
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.importing.ImportFormat;
+import com.mobile.effective.task_management_system.service.TaskImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ImportController.class)
+public class ImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TaskImportService taskImportService;
+
+    @Test
+    @WithMockUser
+    void importTasks_ShouldAcceptFile_WhenUploaded() throws Exception {
+
+        MockMultipartFile file = new MockMultipartFile("file", "tasks.ndjson", "application/x-ndjson",
+                "{\"title\":\"Task\"}\n".getBytes());
+        when(taskImportService.submit(eq(ImportJobStatus.Type.TASKS), eq(ImportFormat.NDJSON), any()))
+                .thenReturn(jobStatus("job-1", ImportJobStatus.State.QUEUED));
+
+
+        mockMvc.perform(multipart("/api/imports/tasks")
+                        .file(file)
+                        .param("format", "NDJSON")
+                        .with(csrf()))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/imports/job-1"))
+                .andExpect(jsonPath("$.state").value("QUEUED"));
+
+        verify(taskImportService).submit(eq(ImportJobStatus.Type.TASKS), eq(ImportFormat.NDJSON), any());
+    }
+
+    @Test
+    @WithMockUser
+    void importComments_ShouldReturnServiceUnavailable_WhenQueueIsFull() throws Exception {
+
+        MockMultipartFile file = new MockMultipartFile("file", "comments.csv", "text/csv",
+                "task_ref,content,author_email\n".getBytes());
+        when(taskImportService.submit(eq(ImportJobStatus.Type.COMMENTS), eq(ImportFormat.CSV), any()))
+                .thenThrow(new ServiceOverloadedException("Import capacity exceeded", 30, null));
+
+
+        mockMvc.perform(multipart("/api/imports/comments")
+                        .file(file)
+                        .with(csrf()))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "30"));
+    }
+
+    @Test
+    @WithMockUser
+    void getImport_ShouldReturnStatus_WhenJobExists() throws Exception {
+
+        when(taskImportService.getJob("job-1")).thenReturn(Optional.of(jobStatus("job-1", ImportJobStatus.State.COMPLETED)));
+
+
+        mockMvc.perform(get("/api/imports/{id}", "job-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("COMPLETED"))
+                .andExpect(jsonPath("$.rowsImported").value(10));
+    }
+
+    @Test
+    @WithMockUser
+    void getImport_ShouldReturnNotFound_WhenJobIsUnknown() throws Exception {
+
+        when(taskImportService.getJob("unknown")).thenReturn(Optional.empty());
+
+
+        mockMvc.perform(get("/api/imports/{id}", "unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static ImportJobStatus jobStatus(String id, ImportJobStatus.State state) {
+        return new ImportJobStatus(id, ImportJobStatus.Type.TASKS, state, 100, 100, 10, 0, 10, 1000.0,
+                Instant.now(), null, null, null, List.of());
+    }
+}
@@ -1,9 +1,23 @@
 package com.mobile.effective.task_management_system.controller;
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
+import com.mobile.effective.task_management_system.dto.TaskBulkReassignment;
+import com.mobile.effective.task_management_system.dto.TaskBulkStatusUpdate;
+import com.mobile.effective.task_management_system.dto.TaskCreationResult;
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.dto.TaskSearchHit;
+import com.mobile.effective.task_management_system.dto.TaskStats;
+import com.mobile.effective.task_management_system.exception.TaskVersionMismatchException;
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.pagination.TaskSeekOrder;
+import com.mobile.effective.task_management_system.service.TaskExportService;
 import com.mobile.effective.task_management_system.service.TaskService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -11,20 +25,42 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(TaskController.class)
@@ -36,6 +72,9 @@ public class TaskControllerTest {
     @MockBean
     private TaskService taskService;
 
+    @MockBean
+    private TaskExportService taskExportService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -60,6 +99,33 @@ public class TaskControllerTest {
         verify(taskService).createTask(any(Task.class));
     }
 
+    @Test
+    @WithMockUser
+    void getTasks_ShouldPassFilterCriteria() throws Exception {
+
+        Task task = new Task();
+        task.setTitle("Test Task");
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        when(taskService.getTasks(filter.capture(), eq(PageRequest.of(0, 10))))
+                .thenReturn(new PageImpl<>(List.of(task), PageRequest.of(0, 10), 1));
+
+
+        mockMvc.perform(get("/api/tasks")
+                        .param("status", "PENDING")
+                        .param("assigneeId", "2")
+                        .param("titlePrefix", "Test")
+                        .param("page", "0")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].title").value("Test Task"));
+
+        assertEquals(TaskStatus.PENDING, filter.getValue().getStatus());
+        assertEquals(2L, filter.getValue().getAssigneeId());
+        assertEquals("Test", filter.getValue().getTitlePrefix());
+        assertNull(filter.getValue().getAuthorId());
+        assertNull(filter.getValue().getPriority());
+    }
+
     @Test
     @WithMockUser
     void getTasksByAuthorId_ShouldReturnPageOfTasks() throws Exception {
@@ -109,14 +175,65 @@ public class TaskControllerTest {
         Long taskId = 1L;
         Task task = new Task();
         task.setTitle("Test Task");
+        task.setVersion(3L);
         when(taskService.getTaskById(taskId)).thenReturn(Optional.of(task));
 
         mockMvc.perform(get("/api/tasks/{taskId}", taskId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
                 .andExpect(jsonPath("$.title").value("Test Task"));
 
         verify(taskService).getTaskById(taskId);
+        verify(taskService, never()).getTaskVersion(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturnNotModified_WhenETagIsCurrent() throws Exception {
+
+        Long taskId = 1L;
+        when(taskService.getTaskVersion(taskId)).thenReturn(Optional.of(3L));
+
+
+        mockMvc.perform(get("/api/tasks/{taskId}", taskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(taskService, never()).getTaskById(anyLong());
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturnTask_WhenETagIsStale() throws Exception {
+
+        Long taskId = 1L;
+        Task task = new Task();
+        task.setTitle("Test Task");
+        task.setVersion(4L);
+        when(taskService.getTaskVersion(taskId)).thenReturn(Optional.of(4L));
+        when(taskService.getTaskById(taskId)).thenReturn(Optional.of(task));
+
+
+        mockMvc.perform(get("/api/tasks/{taskId}", taskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\", \"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskById_ShouldReturnNotFound_WhenConditionalTaskDoesNotExist() throws Exception {
+
+        when(taskService.getTaskVersion(1L)).thenReturn(Optional.empty());
+
+
+        mockMvc.perform(get("/api/tasks/{taskId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotFound());
     }
 
     @Test
@@ -126,7 +243,8 @@ public class TaskControllerTest {
         Long taskId = 1L;
         Task task = new Task();
         task.setTitle("Updated Task");
-        when(taskService.updateTask(anyLong(), any(Task.class))).thenReturn(task);
+        task.setVersion(1L);
+        when(taskService.updateTask(anyLong(), any(Task.class), isNull())).thenReturn(task);
 
 
         mockMvc.perform(put("/api/tasks/{taskId}", taskId)
@@ -134,9 +252,186 @@ public class TaskControllerTest {
                         .content("{\"title\":\"Updated Task\"}")
                         .with(csrf()))  // добавление CSRF токена
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
                 .andExpect(jsonPath("$.title").value("Updated Task"));
 
-        verify(taskService).updateTask(anyLong(), any(Task.class));
+        verify(taskService).updateTask(anyLong(), any(Task.class), isNull());
+    }
+
+    @Test
+    @WithMockUser
+    void updateTask_ShouldPassExpectedVersion_WhenIfMatchIsPresent() throws Exception {
+
+        Task task = new Task();
+        task.setTitle("Updated Task");
+        task.setVersion(3L);
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(2L))).thenReturn(task);
+
+
+        mockMvc.perform(put("/api/tasks/{taskId}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated Task\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
+
+    @Test
+    @WithMockUser
+    void updateTask_ShouldReturnPreconditionFailed_WhenVersionDoesNotMatch() throws Exception {
+
+        when(taskService.updateTask(eq(1L), any(Task.class), eq(2L)))
+                .thenThrow(new TaskVersionMismatchException(1L, 5L));
+
+
+        mockMvc.perform(put("/api/tasks/{taskId}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated Task\"}")
+                        .with(csrf()))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""));
+    }
+
+    @Test
+    @WithMockUser
+    void updateTask_ShouldReturnConflict_WhenUpdatedConcurrently() throws Exception {
+
+        when(taskService.updateTask(eq(1L), any(Task.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Task.class, 1L));
+
+
+        mockMvc.perform(put("/api/tasks/{taskId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Updated Task\"}")
+                        .with(csrf()))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldReturnPatchedTask() throws Exception {
+
+        Task task = new Task();
+        task.setTitle("Test Task");
+        task.setStatus(TaskStatus.COMPLETED);
+        task.setVersion(2L);
+        ArgumentCaptor<TaskPatch> patch = ArgumentCaptor.forClass(TaskPatch.class);
+        when(taskService.patchTask(eq(1L), patch.capture(), isNull())).thenReturn(Optional.of(task));
+
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", 1L)
+                        .contentType("application/merge-patch+json")
+                        .content("{\"status\":\"COMPLETED\",\"assigneeId\":null}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+
+
+        assertEquals(TaskStatus.COMPLETED, patch.getValue().getStatus());
+        assertTrue(patch.getValue().isAssigneeIdPresent());
+        assertFalse(patch.getValue().isDescriptionPresent());
+        assertNull(patch.getValue().getTitle());
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldReturnNoContent_WhenMinimalReturnIsPreferred() throws Exception {
+
+        Task task = new Task();
+        task.setVersion(2L);
+        when(taskService.patchTask(eq(1L), any(TaskPatch.class), eq(1L))).thenReturn(Optional.of(task));
+
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .header("Prefer", "return=minimal")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}")
+                        .with(csrf()))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldReturnNotFound_WhenTaskDoesNotExist() throws Exception {
+
+        when(taskService.patchTask(eq(1L), any(TaskPatch.class), isNull())).thenReturn(Optional.empty());
+
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"COMPLETED\"}")
+                        .with(csrf()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser
+    void patchTask_ShouldReturnBadRequest_WhenTitleIsBlank() throws Exception {
+
+        mockMvc.perform(patch("/api/tasks/{taskId}", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"  \"}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).patchTask(anyLong(), any(), any());
+    }
+
+    @Test
+    @WithMockUser
+    void updateTaskStatuses_ShouldReturnUpdatedCount() throws Exception {
+
+        ArgumentCaptor<TaskBulkStatusUpdate> update = ArgumentCaptor.forClass(TaskBulkStatusUpdate.class);
+        when(taskService.updateTaskStatuses(update.capture())).thenReturn(120L);
+
+
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"filter\":{\"assigneeId\":2,\"status\":\"IN_PROGRESS\"},\"status\":\"COMPLETED\"}")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(120));
+
+
+        assertEquals(TaskStatus.COMPLETED, update.getValue().getStatus());
+        assertEquals(2L, update.getValue().getFilter().getAssigneeId());
+        assertEquals(TaskStatus.IN_PROGRESS, update.getValue().getFilter().getStatus());
+    }
+
+    @Test
+    @WithMockUser
+    void updateTaskStatuses_ShouldReturnBadRequest_WhenStatusIsMissing() throws Exception {
+
+        mockMvc.perform(post("/api/tasks/bulk/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\":[1,2]}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(taskService, never()).updateTaskStatuses(any());
+    }
+
+    @Test
+    @WithMockUser
+    void reassignTasks_ShouldReturnBadRequest_WhenSelectionIsRejected() throws Exception {
+
+        when(taskService.reassignTasks(any(TaskBulkReassignment.class)))
+                .thenThrow(new IllegalArgumentException("Exactly one of ids and filter must be given"));
+
+
+        mockMvc.perform(post("/api/tasks/bulk/reassign")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"assigneeId\":3}")
+                        .with(csrf()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Exactly one of ids and filter must be given"));
     }
 
     @Test
@@ -152,4 +447,148 @@ public class TaskControllerTest {
 
         verify(taskService).deleteTask(taskId);
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void createTasks_ShouldReturnResultForEachTask() throws Exception {
+
+        when(taskService.createTasks(anyList())).thenReturn(List.of(
+                new TaskCreationResult(0, TaskCreationResult.Status.CREATED, 1L, null),
+                new TaskCreationResult(1, TaskCreationResult.Status.INVALID, null, "Статус задачи не может быть пустым")));
+
+
+        mockMvc.perform(post("/api/tasks/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"First\",\"status\":\"PENDING\",\"priority\":\"HIGH\"},{\"title\":\"Second\"}]")
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].status").value("INVALID"));
+
+        verify(taskService).createTasks(anyList());
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksByAuthorId_ShouldReturnBadRequest_WhenSortIsNotAllowed() throws Exception {
+
+        Long authorId = 1L;
+        when(taskService.getTasksByAuthorId(eq(authorId), any(Pageable.class)))
+                .thenThrow(new IllegalArgumentException("Sorting by 'description' is not supported; use one of id, priority, status"));
+
+
+        mockMvc.perform(get("/api/tasks/author/{authorId}", authorId)
+                        .param("sort", "description,desc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Sorting by 'description' is not supported; use one of id, priority, status"));
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksByAuthorId_ShouldReturnCursorPage_WhenLimitIsGiven() throws Exception {
+
+        Long authorId = 1L;
+        Task task = new Task();
+        task.setTitle("Test Task");
+        when(taskService.getTasksByAuthorId(authorId, TaskSeekOrder.PRIORITY, "cursor", 10))
+                .thenReturn(new CursorPage<>(List.of(task), "next"));
+
+
+        mockMvc.perform(get("/api/tasks/author/{authorId}", authorId)
+                        .param("after", "cursor")
+                        .param("limit", "10")
+                        .param("order", "PRIORITY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(taskService, never()).getTasksByAuthorId(any(), any(PageRequest.class));
+    }
+
+    @Test
+    @WithMockUser
+    void getTasksByAssigneeId_ShouldReturnBadRequest_WhenCursorIsInvalid() throws Exception {
+
+        Long assigneeId = 1L;
+        when(taskService.getTasksByAssigneeId(assigneeId, TaskSeekOrder.ID, "broken", 10))
+                .thenThrow(new IllegalArgumentException("Invalid cursor: broken"));
+
+
+        mockMvc.perform(get("/api/tasks/assignee/{assigneeId}", assigneeId)
+                        .param("after", "broken")
+                        .param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor: broken"));
+    }
+
+    @Test
+    @WithMockUser
+    void searchTasks_ShouldReturnHits() throws Exception {
+
+        Task task = new Task();
+        task.setTitle("Fix login error");
+        when(taskService.searchTasks("login error", null, 20))
+                .thenReturn(new CursorPage<>(List.of(new TaskSearchHit(task, 0.3f, "Fix <mark>login</mark> <mark>error</mark>", "")), "next"));
+
+
+        mockMvc.perform(get("/api/tasks/search")
+                        .param("q", "login error"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].task.title").value("Fix login error"))
+                .andExpect(jsonPath("$.items[0].titleHighlight").value("Fix <mark>login</mark> <mark>error</mark>"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(taskService).searchTasks("login error", null, 20);
+    }
+
+    @Test
+    @WithMockUser
+    void getTaskStats_ShouldReturnCountersOfUser() throws Exception {
+
+        TaskStats.RoleStats authored = new TaskStats.RoleStats(3, Map.of(TaskStatus.PENDING, 3L),
+                Map.of(TaskPriority.HIGH, 3L), Map.of(TaskStatus.PENDING, Map.of(TaskPriority.HIGH, 3L)));
+        TaskStats.RoleStats assigned = new TaskStats.RoleStats(0, Map.of(), Map.of(), Map.of());
+        when(taskService.getTaskStats(1L)).thenReturn(new TaskStats(1L, authored, assigned));
+
+
+        mockMvc.perform(get("/api/tasks/stats")
+                        .param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.authored.total").value(3))
+                .andExpect(jsonPath("$.authored.byStatus.PENDING").value(3))
+                .andExpect(jsonPath("$.authored.byStatusAndPriority.PENDING.HIGH").value(3))
+                .andExpect(jsonPath("$.assigned.total").value(0));
+
+        verify(taskService).getTaskStats(1L);
+    }
+
+    @Test
+    @WithMockUser
+    void exportTasks_ShouldStreamNdjson() throws Exception {
+
+        Long authorId = 1L;
+        CountDownLatch requestPrinted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            // Writing commits the response, which must not happen while MockMvc prints its headers
+            assertTrue(requestPrinted.await(5, TimeUnit.SECONDS));
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(taskExportService).exportTasks(eq(authorId), isNull(), any(OutputStream.class));
+
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                        .param("authorId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        requestPrinted.countDown();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
+
+        verify(taskExportService).exportTasks(eq(authorId), isNull(), any(OutputStream.class));
+    }
+}
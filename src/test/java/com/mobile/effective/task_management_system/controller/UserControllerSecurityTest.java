@@ -0,0 +1,73 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.config.SecurityConfig;
+import com.mobile.effective.task_management_system.jwt.JwtAuthenticationCache;
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.service.TokenRevocationService;
+import com.mobile.effective.task_management_system.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks the access rules of the user endpoints with the application's security filter chain.
+ */
+@WebMvcTest(UserController.class)
+@Import(SecurityConfig.class)
+public class UserControllerSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserService userService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private JwtAuthenticationCache jwtAuthenticationCache;
+
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
+    @Test
+    void registerUsers_ShouldBeRejected_WhenCallerIsAnonymous() throws Exception {
+
+        mockMvc.perform(post("/api/users/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"email\":\"first@example.com\",\"password\":\"password\",\"name\":\"First\"}]"))
+                .andExpect(status().isForbidden());
+
+
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @WithMockUser
+    void registerUsers_ShouldRegisterUsers_WhenCallerIsAuthenticated() throws Exception {
+
+        when(userService.registerUsers(anyList())).thenReturn(List.of());
+
+
+        mockMvc.perform(post("/api/users/register/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk());
+
+
+        verify(userService).registerUsers(anyList());
+    }
+}
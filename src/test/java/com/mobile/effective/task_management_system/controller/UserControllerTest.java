@@ -2,6 +2,7 @@ package com.mobile.effective.task_management_system.controller;
 
 
 
+import com.mobile.effective.task_management_system.dto.UserRegistrationResult;
 import com.mobile.effective.task_management_system.model.User;
 import com.mobile.effective.task_management_system.service.UserService;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,7 @@ import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.mockito.Mockito.*;
@@ -32,7 +34,9 @@ public class UserControllerTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        mockMvc = MockMvcBuilders.standaloneSetup(userController).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(userController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
     }
 
     @Test
@@ -91,4 +95,38 @@ public class UserControllerTest {
 
         verify(userService, times(1)).findByEmail("nonexistent@example.com");
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser
+    void testRegisterUsersBulkSuccess() throws Exception {
+        when(userService.registerUsers(anyList())).thenReturn(List.of(
+                new UserRegistrationResult(0, "first@example.com", UserRegistrationResult.Status.CREATED, 1L, null),
+                new UserRegistrationResult(1, "second@example.com", UserRegistrationResult.Status.CONFLICT, null,
+                        "Email уже занят")));
+
+        mockMvc.perform(post("/api/users/register/bulk")
+                        .contentType("application/json")
+                        .content("[{\"email\":\"first@example.com\",\"password\":\"password\",\"name\":\"First\"},"
+                                + "{\"email\":\"second@example.com\",\"password\":\"password\",\"name\":\"Second\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].status").value("CONFLICT"));
+
+        verify(userService, times(1)).registerUsers(argThat(users -> users.size() == 2
+                && "first@example.com".equals(users.get(0).getEmail())));
+    }
+
+    @Test
+    @WithMockUser
+    void testRegisterUsersBulkTooLarge() throws Exception {
+        when(userService.registerUsers(anyList()))
+                .thenThrow(new IllegalArgumentException("Bulk registration is limited to 10000 users"));
+
+        mockMvc.perform(post("/api/users/register/bulk")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Bulk registration is limited to 10000 users"));
+    }
+}
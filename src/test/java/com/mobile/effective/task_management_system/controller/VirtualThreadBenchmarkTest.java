@@ -0,0 +1,179 @@
+package com.mobile.effective.task_management_system.controller;
+
+import com.mobile.effective.task_management_system.TaskManagementSystemApplication;
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the throughput and latency of task listings served on the Tomcat platform thread pool and on
+ * virtual threads, with over a thousand clients each sending requests one after another. Each mode runs
+ * in its own application instance on a random port; requests of the warm-up period are not measured.
+ * Needs the PostgreSQL database from {@code application.properties}; run it with
+ * {@code mvn test -Dtest=VirtualThreadBenchmarkTest -Dbenchmark=true}, optionally with
+ * {@code -Dbenchmark.clients=2000}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class VirtualThreadBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadBenchmarkTest.class);
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 1000);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+    private static final Duration MEASUREMENT = Duration.ofSeconds(20);
+    private static final int TASKS = 200;
+
+    @Test
+    void taskListing_ShouldServeAllClients_OnPlatformAndVirtualThreads() throws Exception {
+
+        Result platform = run(false);
+        Result virtual = run(true);
+
+
+        logger.info(String.format("%d clients listing tasks: platform threads %.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors;"
+                        + " virtual threads %.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors", CLIENTS,
+                platform.throughput, platform.p50Millis, platform.p99Millis, platform.errors,
+                virtual.throughput, virtual.p50Millis, virtual.p99Millis, virtual.errors));
+        assertEquals(0, platform.errors);
+        assertEquals(0, virtual.errors);
+    }
+
+    /**
+     * Starts the application in the given mode, seeds one author with tasks and runs the clients against it.
+     */
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.jpa.show-sql=false",
+                        "--debug=false")) {
+            UserRepository userRepository = context.getBean(UserRepository.class);
+            TaskRepository taskRepository = context.getBean(TaskRepository.class);
+            User author = userRepository.save(user());
+            List<Task> tasks = taskRepository.saveAll(tasks(author));
+            try {
+                String token = context.getBean(JwtTokenProvider.class)
+                        .createToken(author.getId(), author.getEmail(), List.of("ROLE_USER"));
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                URI uri = URI.create("http://localhost:" + port + "/api/tasks/author/" + author.getId() + "?page=0&size=20");
+                return load(HttpRequest.newBuilder(uri).header("Authorization", "Bearer " + token).GET().build());
+            } finally {
+                taskRepository.deleteAllByIdInBatch(tasks.stream().map(Task::getId).toList());
+                userRepository.deleteById(author.getId());
+            }
+        }
+    }
+
+    /**
+     * Sends the request from every client in a loop until the measurement period ends.
+     */
+    private static Result load(HttpRequest request) throws Exception {
+        AtomicLong errors = new AtomicLong();
+        long measureFrom = System.nanoTime() + WARM_UP.toNanos();
+        long measureUntil = measureFrom + MEASUREMENT.toNanos();
+        List<Future<List<Long>>> clients = new ArrayList<>(CLIENTS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(executor).build()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    long start;
+                    while ((start = System.nanoTime()) < measureUntil) {
+                        try {
+                            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            } else if (start >= measureFrom) {
+                                latencies.add(System.nanoTime() - start);
+                            }
+                        } catch (Exception e) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return latencies;
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<List<Long>> client : clients) {
+                latencies.addAll(client.get());
+            }
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            return new Result(sorted.length / (MEASUREMENT.toMillis() / 1000.0),
+                    percentile(sorted, 0.50), percentile(sorted, 0.99), errors.get());
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return Double.NaN;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setEmail("benchmark-" + UUID.randomUUID() + "@example.com");
+        user.setName("Benchmark");
+        user.setPassword("benchmark-password");
+        return user;
+    }
+
+    private static List<Task> tasks(User author) {
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            task.setAuthor(author);
+            task.setAssignee(author);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static final class Result {
+
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final long errors;
+
+        private Result(double throughput, double p50Millis, double p99Millis, long errors) {
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that read-only transactions are served by the replica and everything else by the primary.
+ * Needs the PostgreSQL database from {@code application.properties} and a second instance on another port,
+ * either a streaming replica of the first or a standalone instance; run it with
+ * {@code mvn test -Dtest=ReadReplicaRoutingCheckTest -Dreplica-check=true
+ * -Dreplica-check.url=jdbc:postgresql://localhost:5433/task_management}.
+ */
+@SpringBootTest(properties = {
+        "datasource.replicas.urls=${replica-check.url:jdbc:postgresql://localhost:5433/task_management}",
+        "datasource.replicas.lag-check-interval=100000000",
+        "spring.jpa.show-sql=false"})
+@EnabledIfSystemProperty(named = "replica-check", matches = "true")
+public class ReadReplicaRoutingCheckTest {
+
+    private static final String PORT_QUERY = "SELECT current_setting('port')";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaDataSource;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+        replicaDataSource.checkReplicaLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldBeServedByReplica_WhileOtherTransactionsUsePrimary() {
+
+        String primaryPort = readWrite.execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, String.class));
+        String replicaPort = readOnly.execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, String.class));
+
+
+        assertNotEquals(primaryPort, replicaPort);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldBeServedByPrimary_WhenSessionHasJustWritten() {
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("replica-check@example.com", "", List.of()));
+        String primaryPort = readWrite.execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, String.class));
+
+
+        String readPort = readOnly.execute(status -> jdbcTemplate.queryForObject(PORT_QUERY, String.class));
+
+
+        assertEquals(primaryPort, readPort);
+    }
+}
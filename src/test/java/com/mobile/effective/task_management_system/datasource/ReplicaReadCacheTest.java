@@ -0,0 +1,102 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import com.mobile.effective.task_management_system.service.TaskService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks that with read replicas configured, tasks read by read-only transactions are not put into the
+ * second-level cache, where a stale replica row would hide the current one. The replica is the primary's
+ * in-memory database; its row is read before the primary's row changes, as on a lagging replica.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "datasource.replicas.urls=jdbc:h2:mem:replica-cache;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE",
+        "datasource.replicas.lag-check-interval=3600000",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.show-sql=false",
+        "spring.liquibase.enabled=false",
+        "debug=false"})
+@AutoConfigureMockMvc
+@WithMockUser
+public class ReplicaReadCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        User author = new User();
+        author.setEmail("author@example.com");
+        author.setPassword("password");
+        author.setName("Author");
+        author = userRepository.save(author);
+        task = new Task();
+        task.setTitle("Before");
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.HIGH);
+        task.setAuthor(author);
+        task = taskRepository.save(task);
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getTaskById_ShouldReturnCurrentRow_WhenEvictedTaskWasReadInReadOnlyTransaction() throws Exception {
+        entityManagerFactory.getCache().evict(Task.class, task.getId());
+
+        assertEquals("Before", taskService.getTaskById(task.getId()).orElseThrow().getTitle());
+        jdbcTemplate.update("UPDATE task SET title = 'After', version = version + 1 WHERE id = ?", task.getId());
+
+
+        assertFalse(entityManagerFactory.getCache().contains(Task.class, task.getId()));
+        mockMvc.perform(get("/api/tasks/{taskId}", task.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("After"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.mobile.effective.task_management_system.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource firstReplica;
+    private DataSource secondReplica;
+    private Connection primaryConnection;
+    private Connection firstConnection;
+    private Connection secondConnection;
+    private ReadYourWritesTracker tracker;
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        primary = mock(DataSource.class);
+        firstReplica = mock(DataSource.class);
+        secondReplica = mock(DataSource.class);
+        primaryConnection = mock(Connection.class);
+        firstConnection = mock(Connection.class);
+        secondConnection = mock(Connection.class);
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(firstReplica.getConnection()).thenReturn(firstConnection);
+        when(secondReplica.getConnection()).thenReturn(secondConnection);
+        tracker = new ReadYourWritesTracker(Duration.ofMinutes(1), 100);
+        dataSource = new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica), Duration.ofSeconds(5),
+                tracker, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenReplicaLagWasNotCheckedYet() throws SQLException {
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ShouldAlternateReplicas_WhenBothAreWithinMaxLag() throws SQLException {
+
+        lag(firstConnection, 0.5);
+        lag(secondConnection, 1.0);
+        dataSource.checkReplicaLag();
+
+
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+
+
+        assertNotSame(first, second);
+        assertTrue(List.of(firstConnection, secondConnection).containsAll(List.of(first, second)));
+    }
+
+    @Test
+    void getConnection_ShouldSkipReplica_WhenItsLagExceedsMaxLag() throws SQLException {
+
+        lag(firstConnection, 30.0);
+        lag(secondConnection, 0.0);
+        dataSource.checkReplicaLag();
+
+
+        assertSame(secondConnection, dataSource.getConnection());
+        assertSame(secondConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenNoReplicaCanBeChecked() throws SQLException {
+
+        when(firstReplica.getConnection()).thenThrow(new SQLException("Connection refused"));
+        lag(secondConnection, null);
+        dataSource.checkReplicaLag();
+
+
+        assertSame(primaryConnection, dataSource.getConnection());
+    }
+
+    @Test
+    void getConnection_ShouldUsePrimary_WhenSessionHasWrittenRecently() throws SQLException {
+
+        lag(firstConnection, 0.0);
+        lag(secondConnection, 0.0);
+        dataSource.checkReplicaLag();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("writer@example.com", "", List.of()));
+        tracker.recordWrite();
+
+
+        assertSame(primaryConnection, dataSource.getConnection());
+
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated("reader@example.com", "", List.of()));
+        assertNotSame(primaryConnection, dataSource.getConnection());
+    }
+
+    private static void lag(Connection connection, Double seconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getDouble(1)).thenReturn(seconds == null ? 0.0 : seconds);
+        when(resultSet.wasNull()).thenReturn(seconds == null);
+    }
+}
@@ -0,0 +1,104 @@
+package com.mobile.effective.task_management_system.diagnostics;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class VirtualThreadPinningMonitorTest {
+
+    private final Object lock = new Object();
+
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(20), 5, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        monitor.shutdown();
+    }
+
+    @Test
+    void pinnedVirtualThread_ShouldBeRecordedWithItsClass_WhenItBlocksInsideSynchronized() throws Exception {
+
+        Thread.ofVirtual().start(this::sleepWhileHoldingLock).join();
+
+
+        Timer timer = awaitTimer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 90);
+    }
+
+    @Test
+    void virtualThread_ShouldNotBeRecorded_WhenItBlocksOutsideSynchronized() throws Exception {
+
+        Thread.ofVirtual().start(() -> sleep(100)).join();
+
+
+        Thread.sleep(2000);
+        assertTrue(meterRegistry.find("jvm.threads.virtual.pinned").timers().isEmpty());
+    }
+
+    @Test
+    void onPinned_ShouldRecordPinning_WhenStackHasFramesWithoutMethod() {
+
+        RecordedFrame nativeFrame = mock(RecordedFrame.class);
+        RecordedStackTrace stackTrace = mock(RecordedStackTrace.class);
+        when(stackTrace.getFrames()).thenReturn(List.of(nativeFrame));
+        RecordedEvent event = mock(RecordedEvent.class);
+        when(event.getStackTrace()).thenReturn(stackTrace);
+        when(event.getDuration()).thenReturn(Duration.ofMillis(50));
+
+
+        monitor.onPinned(event);
+
+
+        Timer timer = meterRegistry.find("jvm.threads.virtual.pinned").timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    private void sleepWhileHoldingLock() {
+        synchronized (lock) {
+            sleep(100);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Timer awaitTimer() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Timer timer = meterRegistry.find("jvm.threads.virtual.pinned")
+                    .tag("class", VirtualThreadPinningMonitorTest.class.getName())
+                    .timer();
+            if (timer != null) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JwtAuthenticationCacheTest {
+
+    private JwtAuthenticationCache authenticationCache;
+
+    @BeforeEach
+    void setUp() {
+        authenticationCache = new JwtAuthenticationCache(100, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_ShouldReturnCachedAuthentication_WhenTokenWasPut() {
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken("test@example.com", "");
+        authenticationCache.put(verifiedToken("token", 60000), authentication);
+
+
+        JwtAuthenticationCache.CachedAuthentication result = authenticationCache.get("token");
+
+
+        assertSame(authentication, result.getAuthentication());
+        assertEquals("token-id", result.getTokenId());
+        assertEquals(1, authenticationCache.getHitCount());
+        assertEquals(0, authenticationCache.getMissCount());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenTokenIsNotCached() {
+
+        assertNull(authenticationCache.get("unknown"));
+        assertEquals(1, authenticationCache.getMissCount());
+    }
+
+    @Test
+    void get_ShouldReturnNull_WhenTokenHasExpired() {
+
+        authenticationCache.put(verifiedToken("token", -1000), new UsernamePasswordAuthenticationToken("test@example.com", ""));
+
+
+        assertNull(authenticationCache.get("token"));
+    }
+
+    @Test
+    void invalidate_ShouldRemoveCachedToken() {
+
+        authenticationCache.put(verifiedToken("token", 60000), new UsernamePasswordAuthenticationToken("test@example.com", ""));
+
+
+        authenticationCache.invalidate("token");
+
+
+        assertNull(authenticationCache.get("token"));
+    }
+
+    private static VerifiedToken verifiedToken(String token, long expiresInMillis) {
+        Claims claims = Jwts.claims().setSubject("test@example.com");
+        claims.setId("token-id");
+        claims.setExpiration(new Date(System.currentTimeMillis() + expiresInMillis));
+        return new VerifiedToken(token, claims);
+    }
+}
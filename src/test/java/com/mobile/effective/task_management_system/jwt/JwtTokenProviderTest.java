@@ -0,0 +1,118 @@
+package com.mobile.effective.task_management_system.jwt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class JwtTokenProviderTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        jwtTokenProvider = new JwtTokenProvider(userDetailsService);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "88888888");
+        ReflectionTestUtils.setField(jwtTokenProvider, "validityInMilliseconds", 3600000L);
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessAuthentication", true);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    void verifyToken_ShouldReturnClaims_WhenTokenIsValid() {
+
+        String token = jwtTokenProvider.createToken("test@example.com");
+
+
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token);
+
+
+        assertNotNull(verifiedToken);
+        assertEquals("test@example.com", verifiedToken.getUsername());
+        assertNotNull(verifiedToken.getExpiration());
+    }
+
+    @Test
+    void verifyToken_ShouldReturnNull_WhenSignatureIsInvalid() {
+
+        String token = jwtTokenProvider.createToken("test@example.com");
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+
+        assertNull(jwtTokenProvider.verifyToken(tampered));
+        assertFalse(jwtTokenProvider.validateToken(tampered));
+    }
+
+    @Test
+    void verifyToken_ShouldReturnNull_WhenTokenIsExpired() {
+
+        ReflectionTestUtils.setField(jwtTokenProvider, "validityInMilliseconds", -1000L);
+        String token = jwtTokenProvider.createToken("test@example.com");
+
+
+        assertNull(jwtTokenProvider.verifyToken(token));
+    }
+
+    @Test
+    void getAuthentication_ShouldLoadUserForVerifiedToken() {
+
+        UserDetails userDetails = User.withUsername("test@example.com").password("password").roles("USER").build();
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(userDetails);
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(jwtTokenProvider.createToken("test@example.com"));
+
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+
+
+        assertEquals(userDetails, authentication.getPrincipal());
+        verify(userDetailsService).loadUserByUsername("test@example.com");
+    }
+
+    @Test
+    void getAuthentication_ShouldBuildPrincipalFromClaims_WhenTokenCarriesUserIdAndRoles() {
+
+        String token = jwtTokenProvider.createToken(42L, "test@example.com", List.of("ROLE_USER"));
+        VerifiedToken verifiedToken = jwtTokenProvider.verifyToken(token);
+
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(verifiedToken);
+
+
+        JwtUserPrincipal principal = assertInstanceOf(JwtUserPrincipal.class, authentication.getPrincipal());
+        assertEquals(42L, principal.getId());
+        assertEquals("test@example.com", authentication.getName());
+        assertTrue(authentication.isAuthenticated());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void getAuthentication_ShouldLoadUser_WhenStatelessAuthenticationIsDisabled() {
+
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessAuthentication", false);
+        UserDetails userDetails = User.withUsername("test@example.com").password("password").roles("USER").build();
+        when(userDetailsService.loadUserByUsername("test@example.com")).thenReturn(userDetails);
+        String token = jwtTokenProvider.createToken(42L, "test@example.com", List.of("ROLE_USER"));
+
+
+        Authentication authentication = jwtTokenProvider.getAuthentication(jwtTokenProvider.verifyToken(token));
+
+
+        assertEquals(userDetails, authentication.getPrincipal());
+        verify(userDetailsService).loadUserByUsername("test@example.com");
+    }
+}
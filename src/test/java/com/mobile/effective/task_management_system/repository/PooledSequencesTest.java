@@ -0,0 +1,55 @@
+package com.mobile.effective.task_management_system.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class PooledSequencesTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void allocateIds_ShouldTakeBlocksBelowUpperBounds_WhenSequenceIsInUse() {
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(2))).thenReturn(List.of(151L, 201L));
+
+
+        Long[] ids = PooledSequences.allocateIds(jdbcTemplate, "user_seq", 60);
+
+
+        assertEquals(60, ids.length);
+        assertEquals(102L, ids[0]);
+        assertEquals(151L, ids[49]);
+        assertEquals(152L, ids[50]);
+        assertEquals(161L, ids[59]);
+    }
+
+    @Test
+    void allocateIds_ShouldSkipInitialValue_WhenSequenceIsFresh() {
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(1)))
+                .thenReturn(List.of(1L))
+                .thenReturn(List.of(51L));
+
+
+        Long[] ids = PooledSequences.allocateIds(jdbcTemplate, "user_seq", 3);
+
+
+        assertArrayEquals(new Long[]{2L, 3L, 4L}, ids);
+        verify(jdbcTemplate, times(2)).queryForList(contains("nextval('user_seq')"), eq(Long.class), eq(1));
+    }
+}
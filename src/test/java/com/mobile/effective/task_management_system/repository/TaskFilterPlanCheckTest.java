@@ -0,0 +1,161 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the queries generated for common task filters are planned with an index rather than
+ * a sequential scan of {@code task}. Runs EXPLAIN on the SQL that Hibernate actually generates, against
+ * a few hundred thousand generated tasks that are rolled back afterwards.
+ * Needs the PostgreSQL database from {@code application.properties}; run it with
+ * {@code mvn test -Dtest=TaskFilterPlanCheckTest -Dplan-check=true}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "plan-check", matches = "true")
+public class TaskFilterPlanCheckTest {
+
+    private static final SqlCapture SQL_CAPTURE = new SqlCapture();
+
+    private static final long ID_OFFSET = 900_000_000L;
+    private static final int USERS = 200;
+    private static final int TASKS = 300_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void filters_ShouldBePlannedWithIndexes_WhenCommonCombinationsAreUsed() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            seed();
+
+            assertIndexPlan(filter -> {
+                filter.setStatus(TaskStatus.PENDING);
+                filter.setPriority(TaskPriority.HIGH);
+            }, "PENDING", "HIGH");
+            assertIndexPlan(filter -> {
+                filter.setStatus(TaskStatus.IN_PROGRESS);
+                filter.setAuthorId(ID_OFFSET + 7);
+            }, "IN_PROGRESS", ID_OFFSET + 7);
+            assertIndexPlan(filter -> {
+                filter.setStatus(TaskStatus.COMPLETED);
+                filter.setAssigneeId(ID_OFFSET + 11);
+            }, "COMPLETED", ID_OFFSET + 11);
+            assertIndexPlan(filter -> {
+                filter.setPriority(TaskPriority.LOW);
+                filter.setAuthorId(ID_OFFSET + 3);
+            }, "LOW", ID_OFFSET + 3);
+            assertIndexPlan(filter -> filter.setAssigneeId(ID_OFFSET + 5), ID_OFFSET + 5);
+            assertIndexPlan(filter -> filter.setTitlePrefix("Plan abc"), "plan abc%");
+        });
+    }
+
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO \"user\" (id, email, password, name) " +
+                            "SELECT ? + g, 'plan-check-' || g || '@example.com', 'password', 'Plan check' " +
+                            "FROM generate_series(1, ?) g", ID_OFFSET, USERS);
+        jdbcTemplate.update("INSERT INTO task (id, title, status, priority, author_id, assignee_id) " +
+                            "SELECT ? + g, 'Plan ' || md5(g::text), " +
+                            "(ARRAY['PENDING', 'IN_PROGRESS', 'COMPLETED'])[1 + g % 3], " +
+                            "(ARRAY['HIGH', 'MEDIUM', 'LOW'])[1 + (g / 3) % 3], " +
+                            "? + 1 + g % ?, ? + 1 + (g / 7) % ? " +
+                            "FROM generate_series(1, ?) g",
+                ID_OFFSET, ID_OFFSET, USERS, ID_OFFSET, USERS, TASKS);
+        jdbcTemplate.execute("ANALYZE \"user\"");
+        jdbcTemplate.execute("ANALYZE task");
+    }
+
+    /**
+     * Runs the filter, captures the page query Hibernate generated for it and checks its plan.
+     *
+     * @param criteria   sets the criteria of the filter
+     * @param parameters the values bound to the predicates, in the order the specification adds them
+     */
+    private void assertIndexPlan(Consumer<TaskFilter> criteria, Object... parameters) {
+        TaskFilter filter = new TaskFilter();
+        criteria.accept(filter);
+
+        SQL_CAPTURE.start();
+        List<String> statements;
+        try {
+            taskRepository.findAll(TaskSpecifications.matching(filter), PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        } finally {
+            statements = SQL_CAPTURE.stop();
+        }
+        String sql = statements.get(0);
+
+        List<Object> bindings = new ArrayList<>(List.of(parameters));
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        if (placeholders > bindings.size()) {
+            bindings.add(PAGE_SIZE);
+        }
+        assertEquals(placeholders, bindings.size(), () -> "Unexpected parameters in " + sql);
+
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, bindings.toArray()));
+        assertFalse(plan.contains("Seq Scan on task"), () -> "Sequential scan for " + sql + "\n" + plan);
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer sqlCaptureCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, SQL_CAPTURE);
+        }
+    }
+
+    /**
+     * Records the SQL statements prepared by the thread that started capturing.
+     */
+    static final class SqlCapture implements StatementInspector {
+
+        private final ThreadLocal<List<String>> statements = new ThreadLocal<>();
+
+        void start() {
+            statements.set(new ArrayList<>());
+        }
+
+        List<String> stop() {
+            List<String> captured = statements.get();
+            statements.remove();
+            return captured;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> captured = statements.get();
+            if (captured != null) {
+                captured.add(sql);
+            }
+            return sql;
+        }
+    }
+}
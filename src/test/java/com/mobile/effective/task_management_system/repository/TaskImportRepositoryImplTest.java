@@ -0,0 +1,77 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the set-based resolution of an import against PostgreSQL, inside a transaction that is rolled back.
+ * Needs the PostgreSQL database from {@code application.properties}; run it with
+ * {@code mvn test -Dtest=TaskImportRepositoryImplTest -Dimport-check=true}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "import-check", matches = "true")
+public class TaskImportRepositoryImplTest {
+
+    private static final long ID_OFFSET = 900_000_000L;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void importTasks_ShouldResolveEachEmailToOneUser_WhenUsersDifferOnlyInCase() {
+
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            // Case variants can only exist in a database that predates the unique lower(email) index
+            jdbcTemplate.execute("DROP INDEX uk_user_email_lower");
+            insertUser(ID_OFFSET + 1, "Bob@import.example.com");
+            insertUser(ID_OFFSET + 2, "bob@import.example.com");
+            insertUser(ID_OFFSET + 3, "Carol@import.example.com");
+            String csv = "ref,title,description,status,priority,author_email,assignee_email\n" +
+                         "CASE-1,Ambiguous,,PENDING,HIGH,BOB@import.example.com,\n" +
+                         "CASE-2,Exact,,PENDING,HIGH,Bob@import.example.com,carol@import.example.com\n" +
+                         "CASE-3,Ambiguous assignee,,PENDING,HIGH,,BOB@import.example.com\n";
+
+
+            long copied = taskRepository.copyIntoTaskStaging(new StringReader(csv));
+            long rejected = taskRepository.rejectInvalidTaskStagingRows();
+            List<ImportRowError> errors = taskRepository.findTaskStagingErrors(10);
+            long merged = taskRepository.mergeTaskStaging();
+
+
+            assertEquals(3, copied);
+            assertEquals(2, rejected);
+            assertEquals(1, errors.get(0).getRow());
+            assertEquals("Email автора совпадает с несколькими пользователями: BOB@import.example.com",
+                    errors.get(0).getMessage());
+            assertEquals(3, errors.get(1).getRow());
+            assertEquals("Email исполнителя совпадает с несколькими пользователями: BOB@import.example.com",
+                    errors.get(1).getMessage());
+            assertEquals(1, merged);
+            assertEquals(List.of(ID_OFFSET + 1, ID_OFFSET + 3), jdbcTemplate.queryForList(
+                    "SELECT unnest(ARRAY[t.author_id, t.assignee_id]) FROM task t " +
+                    "JOIN task_import_ref r ON r.task_id = t.id WHERE r.ref = 'CASE-2'", Long.class));
+        });
+    }
+
+    private void insertUser(long id, String email) {
+        jdbcTemplate.update("INSERT INTO \"user\" (id, email, password, name) VALUES (?, ?, 'password', ?)",
+                id, email, email);
+    }
+}
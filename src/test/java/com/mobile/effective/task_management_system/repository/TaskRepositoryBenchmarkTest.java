@@ -0,0 +1,85 @@
+package com.mobile.effective.task_management_system.repository;
+
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures how many tasks per second {@code saveAll} inserts with and without JDBC batching.
+ * Needs the PostgreSQL database from {@code application.properties}; run it with
+ * {@code mvn test -Dtest=TaskRepositoryBenchmarkTest -Dbenchmark=true}.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class TaskRepositoryBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskRepositoryBenchmarkTest.class);
+
+    private static final int ROWS = 10_000;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void saveAll_ShouldInsertFaster_WhenJdbcBatchingIsEnabled() {
+
+        insert(1, 1_000);
+
+
+        double unbatched = insert(1, ROWS);
+        double batched = insert(50, ROWS);
+
+
+        logger.info(String.format("saveAll of %d tasks: %.0f rows/s one by one, %.0f rows/s in batches of 50",
+                ROWS, unbatched, batched));
+        assertTrue(batched > unbatched);
+    }
+
+    /**
+     * Inserts the given number of tasks in one transaction and deletes them again.
+     *
+     * @return the insert rate in rows per second
+     */
+    private double insert(int batchSize, int rows) {
+        List<Task> tasks = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            Task task = new Task();
+            task.setTitle("Benchmark task " + i);
+            task.setStatus(TaskStatus.PENDING);
+            task.setPriority(TaskPriority.MEDIUM);
+            tasks.add(task);
+        }
+
+        long start = System.nanoTime();
+        List<Task> saved = transactionTemplate.execute(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            List<Task> result = taskRepository.saveAll(tasks);
+            entityManager.flush();
+            return result;
+        });
+        long elapsed = System.nanoTime() - start;
+
+        taskRepository.deleteAllByIdInBatch(saved.stream().map(Task::getId).toList());
+        return rows * 1_000_000_000.0 / elapsed;
+    }
+}
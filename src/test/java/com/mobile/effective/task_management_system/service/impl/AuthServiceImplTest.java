@@ -0,0 +1,111 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.jwt.JwtTokenProvider;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class AuthServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private AuthServiceImpl authService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        authService = new AuthServiceImpl(userRepository,
+                new PasswordHashingServiceImpl(passwordEncoder, Runnable::run, ForkJoinPool.commonPool(), 1, 1), jwtTokenProvider);
+    }
+
+    @Test
+    void login_ShouldReturnToken_WhenCredentialsAreValid() {
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setPassword("encodedPassword");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.createToken(1L, "test@example.com", List.of("ROLE_USER"))).thenReturn("token");
+
+
+        String token = authService.login("test@example.com", "password").join();
+
+
+        assertEquals("token", token);
+        verify(passwordEncoder).matches("password", "encodedPassword");
+    }
+
+    @Test
+    void login_ShouldIssueTokenForStoredEmail_WhenEmailDiffersInCase() {
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setPassword("encodedPassword");
+        when(userRepository.findByEmail("Test@Example.com")).thenReturn(Optional.empty());
+        when(userRepository.findByEmailIgnoreCase("Test@Example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("password", "encodedPassword")).thenReturn(true);
+        when(jwtTokenProvider.createToken(1L, "test@example.com", List.of("ROLE_USER"))).thenReturn("token");
+
+
+        String token = authService.login("Test@Example.com", "password").join();
+
+
+        assertEquals("token", token);
+    }
+
+    @Test
+    void login_ShouldFail_WhenPasswordIsWrong() {
+
+        User user = new User();
+        user.setPassword("encodedPassword");
+        when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("wrong", "encodedPassword")).thenReturn(false);
+
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> authService.login("test@example.com", "wrong").join());
+
+
+        assertInstanceOf(BadCredentialsException.class, e.getCause());
+        verifyNoInteractions(jwtTokenProvider);
+    }
+
+    @Test
+    void login_ShouldFailAfterCheckingPassword_WhenUserDoesNotExist() {
+
+        when(userRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(userRepository.findByEmailIgnoreCase("nonexistent@example.com")).thenReturn(Optional.empty());
+
+
+        CompletionException e = assertThrows(CompletionException.class,
+                () -> authService.login("nonexistent@example.com", "password").join());
+
+
+        assertInstanceOf(BadCredentialsException.class, e.getCause());
+        verify(passwordEncoder).matches(eq("password"), startsWith("$2a$10$"));
+        verifyNoInteractions(jwtTokenProvider);
+    }
+}
@@ -1,13 +1,18 @@
 package com.mobile.effective.task_management_system.service.impl;
 
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
 import com.mobile.effective.task_management_system.model.Comment;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.pagination.KeysetCursor;
 import com.mobile.effective.task_management_system.repository.CommentRepository;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,12 +25,15 @@ public class CommentServiceImplTest {
     @Mock
     private CommentRepository commentRepository;
 
-    @InjectMocks
+    @Mock
+    private TaskRepository taskRepository;
+
     private CommentServiceImpl commentService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        commentService = new CommentServiceImpl(commentRepository, taskRepository, 2);
     }
 
     @Test
@@ -44,6 +52,36 @@ public class CommentServiceImplTest {
     }
 
     @Test
+    void addComment_ShouldSaveComment_WhenTaskExists() {
+
+        Comment comment = new Comment();
+        comment.setTask(task(1L));
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(commentRepository.save(comment)).thenReturn(comment);
+
+
+        Comment addedComment = commentService.addComment(comment);
+
+
+        assertSame(comment, addedComment);
+    }
+
+    @Test
+    void addComment_ShouldThrowIllegalArgument_WhenTaskIsDeleted() {
+
+        Comment comment = new Comment();
+        comment.setTask(task(1L));
+        when(taskRepository.existsById(1L)).thenReturn(false);
+
+
+        assertThrows(IllegalArgumentException.class, () -> commentService.addComment(comment));
+
+
+        verify(commentRepository, never()).save(any());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
     void getCommentByTaskId_ShouldReturnListOfComments() {
 
         Long taskId = 1L;
@@ -60,4 +98,58 @@ public class CommentServiceImplTest {
         assertEquals("Test comment", result.get(0).getContent());
         verify(commentRepository).findByTaskId(taskId);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCommentsByTaskId_ShouldReturnOldestFirstWithNextCursor_WhenMoreCommentsFollow() {
+
+        Long taskId = 1L;
+        when(commentRepository.findByTaskIdAndIdGreaterThanOrderByIdAsc(taskId, 0L, Limit.of(3)))
+                .thenReturn(List.of(comment(1L), comment(2L), comment(3L)));
+
+
+        CursorPage<Comment> page = commentService.getCommentsByTaskId(taskId, Sort.Direction.ASC, null, 2);
+
+
+        assertEquals(List.of(1L, 2L), page.getItems().stream().map(Comment::getId).toList());
+        assertEquals(2L, KeysetCursor.decodeId(page.getNextCursor()).getId());
+    }
+
+    @Test
+    void getCommentsByTaskId_ShouldReturnNewestFirstBeforeCursor_WhenDirectionIsDesc() {
+
+        Long taskId = 1L;
+        when(commentRepository.findByTaskIdAndIdLessThanOrderByIdDesc(taskId, 5L, Limit.of(3)))
+                .thenReturn(List.of(comment(4L), comment(2L)));
+
+
+        CursorPage<Comment> page = commentService.getCommentsByTaskId(taskId, Sort.Direction.DESC,
+                KeysetCursor.afterId(5L).encode(), 2);
+
+
+        assertEquals(List.of(4L, 2L), page.getItems().stream().map(Comment::getId).toList());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void getCommentsByTaskId_ShouldThrowIllegalArgument_WhenLimitExceedsMaximum() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> commentService.getCommentsByTaskId(1L, Sort.Direction.ASC, null, 3));
+
+
+        verifyNoInteractions(commentRepository);
+    }
+
+    private static Task task(Long id) {
+        Task task = new Task();
+        task.setId(id);
+        return task;
+    }
+
+    private static Comment comment(Long id) {
+        Comment comment = new Comment();
+        comment.setId(id);
+        comment.setContent("Comment " + id);
+        return comment;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PasswordHashingServiceImplTest {
+
+    @Test
+    void encode_ShouldReturnEncodedPassword() {
+
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, Runnable::run,
+                ForkJoinPool.commonPool(), 1, 1);
+
+
+        assertEquals("encodedPassword", passwordHashingService.encode("password").join());
+    }
+
+    @Test
+    void encode_ShouldThrowServiceOverloaded_WhenExecutorRejectsWork() {
+
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, command -> {
+            throw new RejectedExecutionException("Queue is full");
+        }, ForkJoinPool.commonPool(), 1, 5);
+
+
+        ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class,
+                () -> passwordHashingService.encode("password"));
+
+
+        assertEquals(5, e.getRetryAfterSeconds());
+        verifyNoInteractions(passwordEncoder);
+    }
+
+    @Test
+    void encodeAll_ShouldReturnEncodedPasswordsInInputOrder() {
+
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> "encoded-" + invocation.getArgument(0));
+        PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, Runnable::run,
+                ForkJoinPool.commonPool(), 1, 1);
+
+
+        List<String> encoded = passwordHashingService.encodeAll(List.of("a", "b", "c", "d")).join();
+
+
+        assertEquals(List.of("encoded-a", "encoded-b", "encoded-c", "encoded-d"), encoded);
+    }
+
+    @Test
+    void encodeAll_ShouldThrowServiceOverloaded_WhenBulkConcurrencyIsExhausted() throws Exception {
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return "encoded";
+        });
+        PasswordHashingServiceImpl passwordHashingService = new PasswordHashingServiceImpl(passwordEncoder, Runnable::run,
+                ForkJoinPool.commonPool(), 1, 3);
+        CompletableFuture<List<String>> running = passwordHashingService.encodeAll(List.of("password"));
+        started.await();
+
+
+        ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class,
+                () -> passwordHashingService.encodeAll(List.of("password")));
+        release.countDown();
+
+
+        assertEquals(3, e.getRetryAfterSeconds());
+        assertEquals(List.of("encoded"), running.join());
+        assertEquals(List.of("encoded"), passwordHashingService.encodeAll(List.of("password")).join());
+    }
+}
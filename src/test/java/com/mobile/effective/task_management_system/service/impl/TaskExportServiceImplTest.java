@@ -0,0 +1,83 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class TaskExportServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskExportServiceImpl taskExportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskExportService = new TaskExportServiceImpl(taskRepository, entityManager, new ObjectMapper(), 2);
+    }
+
+    @Test
+    void exportTasks_ShouldWriteOneLinePerTask_AndDetachWrittenTasks() throws Exception {
+
+        Task first = task(1L, "First");
+        Task second = task(2L, "Second");
+        Task third = task(3L, "Third");
+        AtomicBoolean closed = new AtomicBoolean();
+        when(taskRepository.streamByAuthorIdOrderByIdAsc(7L))
+                .thenReturn(Stream.of(first, second, third).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        long count = taskExportService.exportTasks(7L, null, out);
+
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, count);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[2].contains("\"title\":\"Third\""));
+        assertTrue(closed.get());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(third);
+        verify(entityManager, times(1)).clear();
+    }
+
+    @Test
+    void exportTasks_ShouldStreamAllTasks_WhenNoFilterIsGiven() throws Exception {
+
+        when(taskRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.empty());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+
+        long count = taskExportService.exportTasks(null, null, out);
+
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+        verify(taskRepository).streamAllByOrderByIdAsc();
+    }
+
+    private static Task task(Long id, String title) {
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle(title);
+        return task;
+    }
+}
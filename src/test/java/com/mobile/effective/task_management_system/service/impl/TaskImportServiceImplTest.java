@@ -0,0 +1,203 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mobile.effective.task_management_system.dto.ImportJobStatus;
+import com.mobile.effective.task_management_system.dto.ImportRowError;
+import com.mobile.effective.task_management_system.exception.ServiceOverloadedException;
+import com.mobile.effective.task_management_system.importing.ImportFormat;
+import com.mobile.effective.task_management_system.repository.CommentRepository;
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TaskImportServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Runnable> queued = new ArrayList<>();
+
+    private TaskImportServiceImpl taskImportService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        taskImportService = new TaskImportServiceImpl(taskRepository, commentRepository, transactionManager,
+                new ObjectMapper(), queued::add, 2, 10, 3600000, 30);
+    }
+
+    @Test
+    void submit_ShouldImportTasks_WhenFileIsCsv() throws Exception {
+
+        String csv = "ref,title,description,status,priority,author_email,assignee_email\n" +
+                     "T-1,Task,,PENDING,HIGH,a@example.com,\n";
+        AtomicReference<String> copied = new AtomicReference<>();
+        when(taskRepository.copyIntoTaskStaging(any())).thenAnswer(invocation -> {
+            copied.set(readFully(invocation.getArgument(0)));
+            return 1L;
+        });
+        when(taskRepository.rejectInvalidTaskStagingRows()).thenReturn(0L);
+        when(taskRepository.findTaskStagingErrors(10)).thenReturn(List.of());
+        when(taskRepository.mergeTaskStaging()).thenReturn(1L);
+
+
+        ImportJobStatus submitted = taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream(csv));
+        queued.forEach(Runnable::run);
+        ImportJobStatus finished = taskImportService.getJob(submitted.getId()).orElseThrow();
+
+
+        assertEquals(ImportJobStatus.State.QUEUED, submitted.getState());
+        assertEquals(ImportJobStatus.State.COMPLETED, finished.getState());
+        assertEquals(csv, copied.get());
+        assertEquals(1, finished.getRowsCopied());
+        assertEquals(1, finished.getRowsImported());
+        assertEquals(csv.getBytes(StandardCharsets.UTF_8).length, finished.getBytesRead());
+        assertEquals(finished.getBytesTotal(), finished.getBytesRead());
+        verify(transactionManager).commit(any());
+        verifyNoInteractions(commentRepository);
+    }
+
+    @Test
+    void submit_ShouldConvertNdjsonToCsv_WhenFileIsNdjson() throws Exception {
+
+        String ndjson = "{\"task_ref\":\"T-1\",\"content\":\"Say \\\"hi\\\", please\",\"author_email\":null}\n" +
+                        "\n" +
+                        "{\"task_ref\":\"T-2\",\"content\":\"Done\"}\n";
+        AtomicReference<String> copied = new AtomicReference<>();
+        when(commentRepository.copyIntoCommentStaging(any())).thenAnswer(invocation -> {
+            copied.set(readFully(invocation.getArgument(0)));
+            return 2L;
+        });
+        when(commentRepository.mergeCommentStaging()).thenReturn(2L);
+
+
+        ImportJobStatus submitted =
+                taskImportService.submit(ImportJobStatus.Type.COMMENTS, ImportFormat.NDJSON, stream(ndjson));
+        queued.forEach(Runnable::run);
+
+
+        assertEquals("task_ref,content,author_email\n" +
+                     "\"T-1\",\"Say \"\"hi\"\", please\",\n" +
+                     "\"T-2\",\"Done\",\n", copied.get());
+        assertEquals(ImportJobStatus.State.COMPLETED,
+                taskImportService.getJob(submitted.getId()).orElseThrow().getState());
+    }
+
+    @Test
+    void submit_ShouldReportRejectedRows_WhenSomeRowsAreInvalid() throws Exception {
+
+        List<ImportRowError> errors = List.of(new ImportRowError(2, "Неизвестный автор: x@example.com"));
+        when(taskRepository.copyIntoTaskStaging(any())).thenReturn(3L);
+        when(taskRepository.rejectInvalidTaskStagingRows()).thenReturn(1L);
+        when(taskRepository.findTaskStagingErrors(10)).thenReturn(errors);
+        when(taskRepository.mergeTaskStaging()).thenReturn(2L);
+
+
+        ImportJobStatus submitted = taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream("h\n"));
+        queued.forEach(Runnable::run);
+        ImportJobStatus finished = taskImportService.getJob(submitted.getId()).orElseThrow();
+
+
+        assertEquals(ImportJobStatus.State.COMPLETED, finished.getState());
+        assertEquals(1, finished.getRowsRejected());
+        assertEquals(2, finished.getRowsImported());
+        assertEquals(errors, finished.getErrors());
+    }
+
+    @Test
+    void submit_ShouldFailJobAndRollBack_WhenMergeFails() throws Exception {
+
+        when(taskRepository.copyIntoTaskStaging(any())).thenReturn(1L);
+        when(taskRepository.mergeTaskStaging()).thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+
+        ImportJobStatus submitted = taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream("h\n"));
+        queued.forEach(Runnable::run);
+        ImportJobStatus finished = taskImportService.getJob(submitted.getId()).orElseThrow();
+
+
+        assertEquals(ImportJobStatus.State.FAILED, finished.getState());
+        assertEquals("duplicate key", finished.getMessage());
+        assertEquals(0, finished.getRowsImported());
+        assertNotNull(finished.getFinishedAt());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void submit_ShouldFailJob_WhenNdjsonIsInvalid() throws Exception {
+
+        when(taskRepository.copyIntoTaskStaging(any())).thenAnswer(invocation -> {
+            try {
+                return (long) readFully(invocation.getArgument(0)).length();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+
+        ImportJobStatus submitted =
+                taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.NDJSON, stream("{\"ref\":\"T-1\"}\n[1]\n"));
+        queued.forEach(Runnable::run);
+        ImportJobStatus finished = taskImportService.getJob(submitted.getId()).orElseThrow();
+
+
+        assertEquals(ImportJobStatus.State.FAILED, finished.getState());
+        assertEquals("Line 2 is not a JSON object", finished.getMessage());
+        verify(taskRepository, never()).mergeTaskStaging();
+    }
+
+    @Test
+    void submit_ShouldRejectUpload_WhenQueueIsFull() throws Exception {
+
+        taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream("h\n"));
+        taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream("h\n"));
+
+
+        ServiceOverloadedException e = assertThrows(ServiceOverloadedException.class,
+                () -> taskImportService.submit(ImportJobStatus.Type.TASKS, ImportFormat.CSV, stream("h\n")));
+
+
+        assertEquals(30, e.getRetryAfterSeconds());
+        assertEquals(2, queued.size());
+    }
+
+    @Test
+    void getJob_ShouldReturnEmpty_WhenJobIsUnknown() {
+
+        assertTrue(taskImportService.getJob("unknown").isEmpty());
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readFully(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,78 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.repository.TaskRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TaskPurgeServiceImplTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TaskPurgeServiceImpl taskPurgeService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        taskPurgeService = new TaskPurgeServiceImpl(taskRepository, 3, meterRegistry);
+    }
+
+    @Test
+    void purgeDeletedTasks_ShouldDoNothing_WhenNoTaskIsDeleted() {
+
+        when(taskRepository.findDeletedTaskIds(3)).thenReturn(List.of());
+
+
+        int purged = taskPurgeService.purgeDeletedTasks();
+
+
+        assertEquals(0, purged);
+        verify(taskRepository, never()).deleteCommentsOfTasks(anyList(), anyInt());
+        verify(taskRepository, never()).purgeTasks(anyList());
+    }
+
+    @Test
+    void purgeDeletedTasks_ShouldKeepTasks_WhenCommentBatchIsFull() {
+
+        when(taskRepository.findDeletedTaskIds(3)).thenReturn(List.of(1L, 2L));
+        when(taskRepository.deleteCommentsOfTasks(List.of(1L, 2L), 3)).thenReturn(3);
+
+
+        int purged = taskPurgeService.purgeDeletedTasks();
+
+
+        assertEquals(0, purged);
+        verify(taskRepository, never()).purgeTasks(anyList());
+        assertEquals(3.0, meterRegistry.counter("tasks.purged.comments").count());
+    }
+
+    @Test
+    void purgeDeletedTasks_ShouldRemoveTasks_WhenTheirCommentsAreGone() {
+
+        when(taskRepository.findDeletedTaskIds(3)).thenReturn(List.of(1L, 2L));
+        when(taskRepository.deleteCommentsOfTasks(List.of(1L, 2L), 3)).thenReturn(1);
+        when(taskRepository.purgeTasks(List.of(1L, 2L))).thenReturn(2);
+
+
+        int purged = taskPurgeService.purgeDeletedTasks();
+
+
+        assertEquals(2, purged);
+        assertEquals(2.0, meterRegistry.counter("tasks.purged").count());
+    }
+}
@@ -1,20 +1,58 @@
 package com.mobile.effective.task_management_system.service.impl;
 
 
+import com.mobile.effective.task_management_system.dto.CursorPage;
+import com.mobile.effective.task_management_system.dto.TaskBulkReassignment;
+import com.mobile.effective.task_management_system.dto.TaskBulkStatusUpdate;
+import com.mobile.effective.task_management_system.dto.TaskCreationResult;
+import com.mobile.effective.task_management_system.dto.TaskFilter;
+import com.mobile.effective.task_management_system.dto.TaskPatch;
+import com.mobile.effective.task_management_system.dto.TaskSearchHit;
+import com.mobile.effective.task_management_system.dto.TaskStats;
+import com.mobile.effective.task_management_system.exception.TaskVersionMismatchException;
 import com.mobile.effective.task_management_system.model.Task;
+import com.mobile.effective.task_management_system.model.TaskCounter;
+import com.mobile.effective.task_management_system.model.TaskCounterId;
+import com.mobile.effective.task_management_system.model.User;
+import com.mobile.effective.task_management_system.model.enums.TaskPriority;
+import com.mobile.effective.task_management_system.model.enums.TaskRole;
+import com.mobile.effective.task_management_system.model.enums.TaskStatus;
+import com.mobile.effective.task_management_system.pagination.KeysetCursor;
+import com.mobile.effective.task_management_system.pagination.SearchCursor;
+import com.mobile.effective.task_management_system.pagination.TaskSeekOrder;
+import com.mobile.effective.task_management_system.repository.TaskBulkUpdateRepository.BulkUpdateChunk;
+import com.mobile.effective.task_management_system.repository.TaskCounterDeltas;
+import com.mobile.effective.task_management_system.repository.TaskCounterRepository;
+import com.mobile.effective.task_management_system.repository.TaskPatchRepository.PatchedTask;
 import com.mobile.effective.task_management_system.repository.TaskRepository;
+import com.mobile.effective.task_management_system.repository.TaskSearchRepository.TaskSearchMatch;
+import com.mobile.effective.task_management_system.repository.UserRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,12 +62,33 @@ public class TaskServiceImplTest {
     @Mock
     private TaskRepository taskRepository;
 
-    @InjectMocks
+    @Mock
+    private TaskCounterRepository taskCounterRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private Cache secondLevelCache;
+
     private TaskServiceImpl taskService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevelCache);
+        taskService = new TaskServiceImpl(taskRepository, taskCounterRepository, userRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, entityManager, 2, 10, 3, 2);
     }
 
     @Test
@@ -47,6 +106,26 @@ public class TaskServiceImplTest {
         verify(taskRepository).save(task);
     }
 
+    @Test
+    void createTask_ShouldCountTaskForAuthorAndAssignee() {
+
+        Task task = task(1L, TaskPriority.HIGH);
+        task.setAuthor(user(10L));
+        task.setAssignee(user(20L));
+        when(taskRepository.save(task)).thenReturn(task);
+        ArgumentCaptor<TaskCounterDeltas> deltas = ArgumentCaptor.forClass(TaskCounterDeltas.class);
+
+
+        taskService.createTask(task);
+
+
+        verify(taskCounterRepository).applyDeltas(deltas.capture());
+        assertEquals(Map.of(
+                new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.PENDING, TaskPriority.HIGH), 1L,
+                new TaskCounterId(20L, TaskRole.ASSIGNEE, TaskStatus.PENDING, TaskPriority.HIGH), 1L),
+                deltas.getValue().asMap());
+    }
+
     @Test
     void getTasksByAuthorId_ShouldReturnPageOfTasks() {
 
@@ -54,14 +133,14 @@ public class TaskServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Task task = new Task();
         Page<Task> page = new PageImpl<>(Collections.singletonList(task));
-        when(taskRepository.findByAuthorId(authorId, pageable)).thenReturn(page);
+        when(taskRepository.findByAuthorId(authorId, PageRequest.of(0, 10, Sort.by("id")))).thenReturn(page);
 
 
         Page<Task> result = taskService.getTasksByAuthorId(authorId, pageable);
 
 
         assertEquals(1, result.getTotalElements());
-        verify(taskRepository).findByAuthorId(authorId, pageable);
+        verify(taskRepository).findByAuthorId(authorId, PageRequest.of(0, 10, Sort.by("id")));
     }
 
     @Test
@@ -71,14 +150,14 @@ public class TaskServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         Task task = new Task();
         Page<Task> page = new PageImpl<>(Collections.singletonList(task));
-        when(taskRepository.findByAssigneeId(assigneeId, pageable)).thenReturn(page);
+        when(taskRepository.findByAssigneeId(assigneeId, PageRequest.of(0, 10, Sort.by("id")))).thenReturn(page);
 
 
         Page<Task> result = taskService.getTasksByAssigneeId(assigneeId, pageable);
 
 
         assertEquals(1, result.getTotalElements());
-        verify(taskRepository).findByAssigneeId(assigneeId, pageable);
+        verify(taskRepository).findByAssigneeId(assigneeId, PageRequest.of(0, 10, Sort.by("id")));
     }
 
     @Test
@@ -146,26 +225,667 @@ public class TaskServiceImplTest {
     }
 
     @Test
-    void deleteTask_ShouldDeleteTask_WhenTaskExists() {
+    void updateTask_ShouldUpdateTask_WhenExpectedVersionIsCurrent() {
+
+        Long taskId = 1L;
+        Task existingTask = task(taskId, TaskPriority.LOW);
+        existingTask.setVersion(2L);
+        Task updatedDetails = task("Updated Title");
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+
+
+        Task updatedTask = taskService.updateTask(taskId, updatedDetails, 2L);
+
+
+        assertEquals("Updated Title", updatedTask.getTitle());
+        verify(taskRepository).save(existingTask);
+    }
+
+    @Test
+    void updateTask_ShouldThrowVersionMismatch_WhenExpectedVersionIsStale() {
+
+        Long taskId = 1L;
+        Task existingTask = task(taskId, TaskPriority.LOW);
+        existingTask.setVersion(3L);
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+
+
+        TaskVersionMismatchException e = assertThrows(TaskVersionMismatchException.class,
+                () -> taskService.updateTask(taskId, task("Updated Title"), 2L));
+
+
+        assertEquals(3L, e.getCurrentVersion());
+        verify(taskRepository, never()).save(any(Task.class));
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void patchTask_ShouldMoveTaskBetweenCounters_WhenStatusChanges() {
+
+        Task patchedTask = task(1L, TaskPriority.LOW);
+        patchedTask.setStatus(TaskStatus.COMPLETED);
+        patchedTask.setAuthor(user(10L));
+        patchedTask.setVersion(4L);
+        TaskPatch patch = new TaskPatch();
+        patch.setStatus(TaskStatus.COMPLETED);
+        when(taskRepository.patchTask(1L, patch, null)).thenReturn(Optional.of(
+                new PatchedTask(patchedTask, TaskStatus.PENDING, TaskPriority.LOW, null)));
+        ArgumentCaptor<TaskCounterDeltas> deltas = ArgumentCaptor.forClass(TaskCounterDeltas.class);
+
+
+        Optional<Task> result = taskService.patchTask(1L, patch, null);
+
+
+        assertEquals(Optional.of(patchedTask), result);
+        verify(secondLevelCache).evict(Task.class, 1L);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskCounterRepository).applyDeltas(deltas.capture());
+        assertEquals(Map.of(
+                new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.PENDING, TaskPriority.LOW), -1L,
+                new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.COMPLETED, TaskPriority.LOW), 1L),
+                deltas.getValue().asMap());
+    }
+
+    @Test
+    void patchTask_ShouldReject_WhenAssigneeDoesNotExist() {
+
+        TaskPatch patch = new TaskPatch();
+        patch.setAssigneeId(30L);
+        when(userRepository.existsById(30L)).thenReturn(false);
+
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.patchTask(1L, patch, null));
+
+
+        verify(taskRepository, never()).patchTask(anyLong(), any(), any());
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void patchTask_ShouldReturnEmpty_WhenTaskDoesNotExist() {
+
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle("Updated Title");
+        when(taskRepository.patchTask(1L, patch, null)).thenReturn(Optional.empty());
+
+
+        Optional<Task> result = taskService.patchTask(1L, patch, null);
+
+
+        assertTrue(result.isEmpty());
+        verify(taskRepository, never()).findVersionById(anyLong());
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void patchTask_ShouldThrowVersionMismatch_WhenTaskExistsAtAnotherVersion() {
+
+        TaskPatch patch = new TaskPatch();
+        patch.setTitle("Updated Title");
+        when(taskRepository.patchTask(1L, patch, 2L)).thenReturn(Optional.empty());
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+
+
+        TaskVersionMismatchException e = assertThrows(TaskVersionMismatchException.class,
+                () -> taskService.patchTask(1L, patch, 2L));
+
+
+        assertEquals(3L, e.getCurrentVersion());
+    }
+
+    @Test
+    void patchTask_ShouldNotUpdate_WhenPatchIsEmpty() {
+
+        Task task = task(1L, TaskPriority.LOW);
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task));
+
+
+        Optional<Task> result = taskService.patchTask(1L, new TaskPatch(), null);
+
+
+        assertEquals(Optional.of(task), result);
+        verify(taskRepository, never()).patchTask(anyLong(), any(), any());
+    }
+
+    @Test
+    void updateTaskStatuses_ShouldUpdateChunksUntilShortChunk_AndApplyCountersPerChunk() {
+
+        TaskBulkStatusUpdate update = new TaskBulkStatusUpdate();
+        TaskFilter filter = new TaskFilter();
+        filter.setAssigneeId(20L);
+        filter.setStatus(TaskStatus.IN_PROGRESS);
+        update.setFilter(filter);
+        update.setStatus(TaskStatus.COMPLETED);
+        TaskCounterDeltas firstDeltas = new TaskCounterDeltas()
+                .add(10L, 20L, TaskStatus.IN_PROGRESS, TaskPriority.LOW, -2)
+                .add(10L, 20L, TaskStatus.COMPLETED, TaskPriority.LOW, 2);
+        TaskCounterDeltas secondDeltas = new TaskCounterDeltas()
+                .add(10L, 20L, TaskStatus.IN_PROGRESS, TaskPriority.HIGH, -1)
+                .add(10L, 20L, TaskStatus.COMPLETED, TaskPriority.HIGH, 1);
+        when(taskRepository.updateStatusChunk(update, TaskStatus.COMPLETED, 0L, 2))
+                .thenReturn(new BulkUpdateChunk(List.of(5L, 7L), 7L, firstDeltas));
+        when(taskRepository.updateStatusChunk(update, TaskStatus.COMPLETED, 7L, 2))
+                .thenReturn(new BulkUpdateChunk(List.of(9L), 9L, secondDeltas));
+
+
+        long updated = taskService.updateTaskStatuses(update);
+
+
+        assertEquals(3, updated);
+        verify(taskCounterRepository).applyDeltas(firstDeltas);
+        verify(taskCounterRepository).applyDeltas(secondDeltas);
+        verify(secondLevelCache).evict(Task.class, 5L);
+        verify(secondLevelCache).evict(Task.class, 7L);
+        verify(secondLevelCache).evict(Task.class, 9L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void reassignTasks_ShouldUpdateListedTasks() {
+
+        TaskBulkReassignment reassignment = new TaskBulkReassignment();
+        reassignment.setIds(List.of(1L, 2L, 3L));
+        reassignment.setAssigneeId(30L);
+        when(userRepository.existsById(30L)).thenReturn(true);
+        when(taskRepository.reassignChunk(reassignment, 30L, 0L, 2))
+                .thenReturn(new BulkUpdateChunk(List.of(), 0L, new TaskCounterDeltas()));
+
+
+        long updated = taskService.reassignTasks(reassignment);
+
+
+        assertEquals(0, updated);
+        verify(taskRepository).reassignChunk(reassignment, 30L, 0L, 2);
+    }
+
+    @Test
+    void reassignTasks_ShouldReject_WhenAssigneeDoesNotExist() {
+
+        TaskBulkReassignment reassignment = new TaskBulkReassignment();
+        reassignment.setIds(List.of(1L, 2L));
+        reassignment.setAssigneeId(30L);
+        when(userRepository.existsById(30L)).thenReturn(false);
+
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.reassignTasks(reassignment));
+
+
+        verify(taskRepository, never()).reassignChunk(any(), any(), anyLong(), anyInt());
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void reassignTasks_ShouldUnassignWithoutUserCheck_WhenAssigneeIsNull() {
+
+        TaskBulkReassignment reassignment = new TaskBulkReassignment();
+        reassignment.setIds(List.of(1L));
+        when(taskRepository.reassignChunk(reassignment, null, 0L, 2))
+                .thenReturn(new BulkUpdateChunk(List.of(), 0L, new TaskCounterDeltas()));
+
+
+        taskService.reassignTasks(reassignment);
+
+
+        verify(taskRepository).reassignChunk(reassignment, null, 0L, 2);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void updateTaskStatuses_ShouldReject_WhenBothIdsAndFilterAreGiven() {
+
+        TaskBulkStatusUpdate update = new TaskBulkStatusUpdate();
+        update.setIds(List.of(1L));
+        update.setFilter(new TaskFilter());
+        update.setStatus(TaskStatus.COMPLETED);
+
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskStatuses(update));
+
+
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    void reassignTasks_ShouldReject_WhenFilterHasNoCriteria() {
+
+        TaskBulkReassignment reassignment = new TaskBulkReassignment();
+        reassignment.setFilter(new TaskFilter());
+
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.reassignTasks(reassignment));
+
+
+        verify(taskRepository, never()).reassignChunk(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void getTaskVersion_ShouldReadVersionOnly() {
+
+        when(taskRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+
+        Optional<Long> version = taskService.getTaskVersion(1L);
+
+
+        assertEquals(Optional.of(7L), version);
+        verify(taskRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    void updateTask_ShouldMoveTaskBetweenCounters_WhenStatusAndAssigneeChange() {
 
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(true);
+        Task existingTask = task(taskId, TaskPriority.LOW);
+        existingTask.setAuthor(user(10L));
+        existingTask.setAssignee(user(20L));
+        Task updatedDetails = task("Updated Title");
+        updatedDetails.setStatus(TaskStatus.COMPLETED);
+        updatedDetails.setPriority(TaskPriority.LOW);
+        updatedDetails.setAssignee(user(30L));
+        when(taskRepository.findById(taskId)).thenReturn(Optional.of(existingTask));
+        when(taskRepository.save(existingTask)).thenReturn(existingTask);
+        ArgumentCaptor<TaskCounterDeltas> deltas = ArgumentCaptor.forClass(TaskCounterDeltas.class);
+
+
+        taskService.updateTask(taskId, updatedDetails);
+
+
+        verify(taskCounterRepository).applyDeltas(deltas.capture());
+        assertEquals(Map.of(
+                new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.PENDING, TaskPriority.LOW), -1L,
+                new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.COMPLETED, TaskPriority.LOW), 1L,
+                new TaskCounterId(20L, TaskRole.ASSIGNEE, TaskStatus.PENDING, TaskPriority.LOW), -1L,
+                new TaskCounterId(30L, TaskRole.ASSIGNEE, TaskStatus.COMPLETED, TaskPriority.LOW), 1L),
+                deltas.getValue().asMap());
+    }
+
+    @Test
+    void deleteTask_ShouldSoftDeleteTask_AndRemoveItFromCounters() {
+
+        Long taskId = 1L;
+        TaskCounterDeltas deltas = new TaskCounterDeltas()
+                .add(10L, null, TaskStatus.PENDING, TaskPriority.MEDIUM, -1);
+        when(taskRepository.softDeleteTask(taskId)).thenReturn(Optional.of(deltas));
 
 
         taskService.deleteTask(taskId);
 
 
-        verify(taskRepository).deleteById(taskId);
+        verify(taskCounterRepository).applyDeltas(deltas);
+        verify(secondLevelCache).evict(Task.class, taskId);
+        verify(taskRepository, never()).findById(anyLong());
+        verify(taskRepository, never()).delete(any(Task.class));
     }
 
     @Test
     void deleteTask_ShouldThrowException_WhenTaskDoesNotExist() {
 
         Long taskId = 1L;
-        when(taskRepository.existsById(taskId)).thenReturn(false);
+        when(taskRepository.softDeleteTask(taskId)).thenReturn(Optional.empty());
 
 
         assertThrows(RuntimeException.class, () -> taskService.deleteTask(taskId));
-        verify(taskRepository).existsById(taskId);
+        verifyNoInteractions(taskCounterRepository);
+    }
+
+    @Test
+    void createTasks_ShouldSaveValidTasksInChunks_AndReportInvalidOnes() {
+
+        List<Task> tasks = List.of(task("First"), task(" "), task("Second"), task("Third"));
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> chunk = invocation.getArgument(0);
+            chunk.forEach(task -> task.setId(ids.incrementAndGet()));
+            return chunk;
+        });
+
+
+        List<TaskCreationResult> results = taskService.createTasks(tasks);
+
+
+        assertEquals(TaskCreationResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getId());
+        assertEquals(TaskCreationResult.Status.INVALID, results.get(1).getStatus());
+        assertEquals("Заголовок задачи не может быть пустым", results.get(1).getMessage());
+        assertEquals(TaskCreationResult.Status.CREATED, results.get(2).getStatus());
+        assertEquals(2L, results.get(2).getId());
+        assertEquals(TaskCreationResult.Status.CREATED, results.get(3).getStatus());
+        assertEquals(3L, results.get(3).getId());
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void createTasks_ShouldSaveTasksOneByOne_WhenChunkIsRejected() {
+
+        List<Task> tasks = List.of(task("Good"), task("Bad"));
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(task -> "Bad".equals(task.getTitle()))) {
+                throw new DataIntegrityViolationException("foreign key violation");
+            }
+            chunk.forEach(task -> task.setId(ids.incrementAndGet()));
+            return chunk;
+        });
+
+
+        List<TaskCreationResult> results = taskService.createTasks(tasks);
+
+
+        assertEquals(TaskCreationResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(1L, results.get(0).getId());
+        assertEquals(TaskCreationResult.Status.FAILED, results.get(1).getStatus());
+        assertNull(results.get(1).getId());
+        verify(transactionManager, times(2)).rollback(any());
+    }
+
+    @Test
+    void createTasks_ShouldReportIdsOfSavedTasks_WhenRetriedAfterRolledBackChunk() {
+
+        List<Task> tasks = List.of(task("Good"), task("Bad"));
+        AtomicLong ids = new AtomicLong();
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> chunk = invocation.getArgument(0);
+            List<Task> saved = new ArrayList<>();
+            for (Task task : chunk) {
+                if (task.getVersion() != null) {
+                    Task copy = task(task.getTitle());
+                    copy.setId(ids.incrementAndGet());
+                    saved.add(copy);
+                } else {
+                    task.setId(ids.incrementAndGet());
+                    task.setVersion(0L);
+                    saved.add(task);
+                }
+            }
+            if (chunk.stream().anyMatch(task -> "Bad".equals(task.getTitle()))) {
+                throw new DataIntegrityViolationException("foreign key violation");
+            }
+            return saved;
+        });
+
+
+        List<TaskCreationResult> results = taskService.createTasks(tasks);
+
+
+        assertEquals(TaskCreationResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(3L, results.get(0).getId());
+        assertEquals(TaskCreationResult.Status.FAILED, results.get(1).getStatus());
+    }
+
+    @Test
+    void createTasks_ShouldThrowIllegalArgument_WhenBatchIsTooLarge() {
+
+        List<Task> tasks = Collections.nCopies(11, task("Task"));
+
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.createTasks(tasks));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    private static Task task(String title) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(TaskStatus.PENDING);
+        task.setPriority(TaskPriority.HIGH);
+        return task;
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldReturnNextCursor_WhenMoreTasksFollow() {
+
+        Long authorId = 1L;
+        List<Task> tasks = List.of(task(5L, TaskPriority.HIGH), task(7L, TaskPriority.LOW), task(9L, TaskPriority.HIGH));
+        when(taskRepository.findByAuthorIdAndIdGreaterThanOrderByIdAsc(authorId, 3L, Limit.of(3))).thenReturn(tasks);
+
+
+        CursorPage<Task> page = taskService.getTasksByAuthorId(authorId, TaskSeekOrder.ID,
+                KeysetCursor.afterId(3L).encode(), 2);
+
+
+        assertEquals(List.of(5L, 7L), page.getItems().stream().map(Task::getId).toList());
+        assertEquals(7L, KeysetCursor.decode(page.getNextCursor(), TaskSeekOrder.ID).getId());
+        verify(taskRepository, never()).findByAuthorId(any(), any());
+    }
+
+    @Test
+    void getTasksByAssigneeId_ShouldContinueWithLowerPriorities_WhenPriorityIsExhausted() {
+
+        Long assigneeId = 2L;
+        when(taskRepository.findByAssigneeIdAndPriorityAndIdGreaterThanOrderByIdAsc(
+                assigneeId, TaskPriority.MEDIUM, 4L, Limit.of(3)))
+                .thenReturn(List.of(task(8L, TaskPriority.MEDIUM)));
+        when(taskRepository.findByAssigneeIdAndPriorityAndIdGreaterThanOrderByIdAsc(
+                assigneeId, TaskPriority.LOW, 0L, Limit.of(2)))
+                .thenReturn(List.of(task(1L, TaskPriority.LOW)));
+
+
+        CursorPage<Task> page = taskService.getTasksByAssigneeId(assigneeId, TaskSeekOrder.PRIORITY,
+                KeysetCursor.afterPriority(TaskPriority.MEDIUM, 4L).encode(), 2);
+
+
+        assertEquals(List.of(8L, 1L), page.getItems().stream().map(Task::getId).toList());
+        assertNull(page.getNextCursor());
+        verify(taskRepository, never()).findByAssigneeIdAndPriorityAndIdGreaterThanOrderByIdAsc(
+                eq(assigneeId), eq(TaskPriority.HIGH), anyLong(), any());
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldThrowIllegalArgument_WhenCursorIsInvalid() {
+
+        String cursor = KeysetCursor.afterId(3L).encode();
+
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, TaskSeekOrder.PRIORITY, cursor, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, TaskSeekOrder.ID, "not-a-cursor", 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, TaskSeekOrder.ID, null, 4));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldAppendIdTieBreaker_WhenSortedByIndexedKey() {
+
+        Long authorId = 1L;
+        when(taskRepository.findByAuthorId(eq(authorId), any())).thenReturn(Page.empty());
+
+
+        taskService.getTasksByAuthorId(authorId, PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "priority")));
+
+
+        verify(taskRepository).findByAuthorId(authorId, PageRequest.of(1, 10,
+                Sort.by(Sort.Order.desc("priority"), Sort.Order.desc("id"))));
+    }
+
+    @Test
+    void getTasksByAssigneeId_ShouldDropIgnoreCaseAndKeysAfterId() {
+
+        Long assigneeId = 1L;
+        when(taskRepository.findByAssigneeId(eq(assigneeId), any())).thenReturn(Page.empty());
+
+
+        taskService.getTasksByAssigneeId(assigneeId, PageRequest.of(0, 10,
+                Sort.by(Sort.Order.desc("status").ignoreCase(), Sort.Order.desc("id"), Sort.Order.asc("priority"))));
+
+
+        verify(taskRepository).findByAssigneeId(assigneeId, PageRequest.of(0, 10,
+                Sort.by(Sort.Order.desc("status"), Sort.Order.desc("id"))));
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldThrowIllegalArgument_WhenSortMixesDirections() {
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksByAuthorId(1L,
+                PageRequest.of(0, 10, Sort.by(Sort.Order.asc("priority"), Sort.Order.desc("id")))));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldThrowIllegalArgument_WhenNoIndexServesSort() {
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasksByAuthorId(1L,
+                PageRequest.of(0, 10, Sort.by("status", "priority"))));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasks_ShouldThrowIllegalArgument_WhenUnfilteredSortHasNoIndex() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasks(new TaskFilter(), PageRequest.of(0, 10, Sort.by("priority"))));
+        assertThrows(IllegalArgumentException.class, () -> taskService.getTasks(new TaskFilter(),
+                PageRequest.of(0, 10, Sort.by(Sort.Order.asc("status"), Sort.Order.desc("priority")))));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasks_ShouldAcceptSortLedByFilteredKey_WhenIndexServesIt() {
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(TaskStatus.PENDING);
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), any(Pageable.class)))
+                .thenReturn(Page.empty());
+
+
+        taskService.getTasks(filter, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "priority")));
+        taskService.getTasks(new TaskFilter(), PageRequest.of(0, 10, Sort.by("status", "priority")));
+
+
+        verify(taskRepository).findAll(ArgumentMatchers.<Specification<Task>>any(), eq(PageRequest.of(0, 10,
+                Sort.by(Sort.Order.desc("priority"), Sort.Order.desc("id")))));
+        verify(taskRepository).findAll(ArgumentMatchers.<Specification<Task>>any(), eq(PageRequest.of(0, 10,
+                Sort.by("status", "priority", "id"))));
+    }
+
+    @Test
+    void getTasksByAuthorId_ShouldThrowIllegalArgument_WhenSortKeyIsNotAllowed() {
+
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, PageRequest.of(0, 10, Sort.by("description"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, PageRequest.of(0, 10, Sort.by("author.name"))));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.getTasksByAuthorId(1L, PageRequest.of(0, 10, Sort.by("priority", "priority"))));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTasks_ShouldOrderById_WhenPageIsUnsorted() {
+
+        TaskFilter filter = new TaskFilter();
+        filter.setStatus(TaskStatus.PENDING);
+        Page<Task> tasks = new PageImpl<>(List.of(task(1L, TaskPriority.HIGH)));
+        when(taskRepository.findAll(ArgumentMatchers.<Specification<Task>>any(), eq(PageRequest.of(0, 10, Sort.by("id")))))
+                .thenReturn(tasks);
+
+
+        Page<Task> result = taskService.getTasks(filter, PageRequest.of(0, 10));
+
+
+        assertEquals(tasks, result);
+    }
+
+    @Test
+    void searchTasks_ShouldReturnHitsInRankOrder_WithNextCursor() {
+
+        when(taskRepository.searchTasks("ошибка", 0.5f, 3L, 3)).thenReturn(List.of(
+                new TaskSearchMatch(9L, 0.4f, "<mark>Ошибка</mark> входа", ""),
+                new TaskSearchMatch(4L, 0.2f, "Вторая <mark>ошибка</mark>", ""),
+                new TaskSearchMatch(6L, 0.2f, "Третья <mark>ошибка</mark>", "")));
+        when(taskRepository.findByIdIn(List.of(9L, 4L)))
+                .thenReturn(List.of(task(4L, TaskPriority.LOW), task(9L, TaskPriority.HIGH)));
+
+
+        CursorPage<TaskSearchHit> page = taskService.searchTasks("ошибка", SearchCursor.after(0.5f, 3L).encode(), 2);
+
+
+        assertEquals(List.of(9L, 4L), page.getItems().stream().map(hit -> hit.getTask().getId()).toList());
+        assertEquals("<mark>Ошибка</mark> входа", page.getItems().get(0).getTitleHighlight());
+        SearchCursor next = SearchCursor.decode(page.getNextCursor());
+        assertEquals(0.2f, next.getRank());
+        assertEquals(4L, next.getId());
+    }
+
+    @Test
+    void searchTasks_ShouldReturnLastPage_WhenNoMoreMatches() {
+
+        when(taskRepository.searchTasks("отчет", null, 0L, 3))
+                .thenReturn(List.of(new TaskSearchMatch(1L, 0.1f, "<mark>Отчет</mark>", "")));
+        when(taskRepository.findByIdIn(List.of(1L))).thenReturn(List.of(task(1L, TaskPriority.MEDIUM)));
+
+
+        CursorPage<TaskSearchHit> page = taskService.searchTasks("отчет", null, 2);
+
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void searchTasks_ShouldThrowIllegalArgument_WhenQueryIsBlank() {
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.searchTasks(" ", null, 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.searchTasks("отчет", KeysetCursor.afterId(3L).encode(), 2));
+
+
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void getTaskStats_ShouldAggregateCounters_AndFillMissingWithZero() {
+
+        when(taskCounterRepository.findByIdUserId(10L)).thenReturn(List.of(
+                counter(new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.PENDING, TaskPriority.HIGH), 3),
+                counter(new TaskCounterId(10L, TaskRole.AUTHOR, TaskStatus.COMPLETED, TaskPriority.HIGH), 2),
+                counter(new TaskCounterId(10L, TaskRole.ASSIGNEE, TaskStatus.PENDING, TaskPriority.LOW), 4)));
+
+
+        TaskStats stats = taskService.getTaskStats(10L);
+
+
+        assertEquals(5, stats.getAuthored().getTotal());
+        assertEquals(3L, stats.getAuthored().getByStatus().get(TaskStatus.PENDING));
+        assertEquals(0L, stats.getAuthored().getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(5L, stats.getAuthored().getByPriority().get(TaskPriority.HIGH));
+        assertEquals(2L, stats.getAuthored().getByStatusAndPriority().get(TaskStatus.COMPLETED).get(TaskPriority.HIGH));
+        assertEquals(4, stats.getAssigned().getTotal());
+        assertEquals(4L, stats.getAssigned().getByPriority().get(TaskPriority.LOW));
+    }
+
+    private static TaskCounter counter(TaskCounterId id, long count) {
+        TaskCounter counter = new TaskCounter();
+        counter.setId(id);
+        counter.setTaskCount(count);
+        return counter;
+    }
+
+    private static User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private static Task task(Long id, TaskPriority priority) {
+        Task task = task("Task " + id);
+        task.setId(id);
+        task.setPriority(priority);
+        return task;
     }
-}
\ No newline at end of file
+}
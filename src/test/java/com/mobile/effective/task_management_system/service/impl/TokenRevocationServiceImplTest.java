@@ -0,0 +1,103 @@
+package com.mobile.effective.task_management_system.service.impl;
+
+import com.mobile.effective.task_management_system.jwt.JwtAuthenticationCache;
+import com.mobile.effective.task_management_system.jwt.VerifiedToken;
+import com.mobile.effective.task_management_system.model.RevokedToken;
+import com.mobile.effective.task_management_system.repository.RevokedTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TokenRevocationServiceImplTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private JwtAuthenticationCache authenticationCache;
+
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tokenRevocationService = new TokenRevocationServiceImpl(
+                revokedTokenRepository, authenticationCache, new SimpleMeterRegistry(), 0.01, 100);
+    }
+
+    @Test
+    void revoke_ShouldStoreTokenAndInvalidateCache() {
+
+        VerifiedToken verifiedToken = verifiedToken("token-id");
+        when(revokedTokenRepository.existsById("token-id")).thenReturn(false);
+
+
+        tokenRevocationService.revoke(verifiedToken);
+
+
+        verify(revokedTokenRepository).save(any(RevokedToken.class));
+        verify(authenticationCache).invalidate("token");
+    }
+
+    @Test
+    void isRevoked_ShouldNotQueryDatabase_WhenFilterRulesTokenOut() {
+
+        when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("revoked-id"));
+        tokenRevocationService.rebuildFilter();
+
+
+        assertFalse(tokenRevocationService.isRevoked("other-id"));
+        verify(revokedTokenRepository, never()).existsById("other-id");
+    }
+
+    @Test
+    void isRevoked_ShouldConfirmWithDatabase_WhenFilterReportsPossibleMatch() {
+
+        when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of("revoked-id"));
+        when(revokedTokenRepository.existsById("revoked-id")).thenReturn(true);
+        tokenRevocationService.rebuildFilter();
+
+
+        assertTrue(tokenRevocationService.isRevoked("revoked-id"));
+        verify(revokedTokenRepository).existsById("revoked-id");
+    }
+
+    @Test
+    void isRevoked_ShouldReturnFalse_WhenTokenHasNoId() {
+
+        assertFalse(tokenRevocationService.isRevoked(null));
+        verifyNoInteractions(revokedTokenRepository);
+    }
+
+    @Test
+    void rebuildFilter_ShouldKeepRevocationsNotYetVisibleInDatabase() {
+
+        tokenRevocationService.revoke(verifiedToken("recent-id"));
+        when(revokedTokenRepository.findActiveTokenIds(any())).thenReturn(List.of());
+        when(revokedTokenRepository.existsById("recent-id")).thenReturn(true);
+
+
+        tokenRevocationService.rebuildFilter();
+
+
+        assertTrue(tokenRevocationService.isRevoked("recent-id"));
+    }
+
+    private static VerifiedToken verifiedToken(String tokenId) {
+        Claims claims = Jwts.claims().setSubject("test@example.com");
+        claims.setId(tokenId);
+        claims.setExpiration(new Date(System.currentTimeMillis() + 60000));
+        return new VerifiedToken("token", claims);
+    }
+}
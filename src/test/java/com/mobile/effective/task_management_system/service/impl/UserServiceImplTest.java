@@ -1,17 +1,25 @@
 package com.mobile.effective.task_management_system.service.impl;
 
+import com.mobile.effective.task_management_system.dto.UserRegistrationResult;
 import com.mobile.effective.task_management_system.model.User;
 import com.mobile.effective.task_management_system.repository.UserRepository;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -24,12 +32,15 @@ public class UserServiceImplTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
-    @InjectMocks
     private UserServiceImpl userService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        userService = new UserServiceImpl(userRepository,
+                new PasswordHashingServiceImpl(passwordEncoder, Runnable::run, ForkJoinPool.commonPool(), 1, 1),
+                validator, 2, 10);
     }
 
     @Test
@@ -59,6 +70,21 @@ public class UserServiceImplTest {
         verify(userRepository).save(any(User.class));
     }
 
+    @Test
+    void registerUser_ShouldThrowIllegalArgument_WhenEmailIsRegisteredInOtherCase() {
+
+        when(userRepository.findByEmailIgnoreCase("Test@Example.com"))
+                .thenReturn(Optional.of(user("test@example.com", "encodedPassword", "Test User")));
+
+
+        assertThrows(IllegalArgumentException.class,
+                () -> userService.registerUser("Test@Example.com", "password", "Test User"));
+
+
+        verify(userRepository, never()).save(any(User.class));
+        verifyNoInteractions(passwordEncoder);
+    }
+
     @Test
     void findByEmail_ShouldReturnUser_WhenUserExists() {
 
@@ -124,4 +150,88 @@ public class UserServiceImplTest {
         assertThrows(UsernameNotFoundException.class, () -> userService.loadUserByUsername(email));
         verify(userRepository).findByEmail(email);
     }
-}
\ No newline at end of file
+
+    @Test
+    void registerUsers_ShouldReportEachUser_WhenSomeAreInvalidOrConflicting() {
+
+        List<User> users = List.of(
+                user("new1@example.com", "password", "New One"),
+                user("not-an-email", "password", "Invalid"),
+                user("taken@example.com", "password", "Taken"),
+                user("new1@example.com", "password", "Duplicate"),
+                user("new2@example.com", "password", "New Two"),
+                user("raced@example.com", "password", "Raced"));
+
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(any())).thenReturn(Set.of("taken@example.com"));
+        when(userRepository.insertSkippingConflicts(anyList())).thenReturn(
+                Map.of("new1@example.com", 1L, "new2@example.com", 2L),
+                Map.of());
+
+
+        List<UserRegistrationResult> results = userService.registerUsers(users);
+
+
+        assertEquals(6, results.size());
+        assertResult(results.get(0), 0, UserRegistrationResult.Status.CREATED, 1L);
+        assertResult(results.get(1), 1, UserRegistrationResult.Status.INVALID, null);
+        assertResult(results.get(2), 2, UserRegistrationResult.Status.CONFLICT, null);
+        assertResult(results.get(3), 3, UserRegistrationResult.Status.CONFLICT, null);
+        assertResult(results.get(4), 4, UserRegistrationResult.Status.CREATED, 2L);
+        assertResult(results.get(5), 5, UserRegistrationResult.Status.CONFLICT, null);
+        verify(passwordEncoder, times(3)).encode("password");
+        verify(userRepository, times(2)).insertSkippingConflicts(argThat(chunk ->
+                chunk.stream().allMatch(u -> "encodedPassword".equals(u.getPassword()))));
+    }
+
+    @Test
+    void registerUsers_ShouldReportConflict_WhenEmailsDifferOnlyInCase() {
+
+        List<User> users = List.of(
+                user("New@example.com", "password", "New"),
+                user("new@Example.com", "password", "Same In Other Case"),
+                user("Taken@Example.com", "password", "Taken"));
+
+        when(passwordEncoder.encode("password")).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(Set.of("new@example.com", "taken@example.com")))
+                .thenReturn(Set.of("taken@example.com"));
+        when(userRepository.insertSkippingConflicts(anyList())).thenReturn(Map.of("New@example.com", 1L));
+
+
+        List<UserRegistrationResult> results = userService.registerUsers(users);
+
+
+        assertResult(results.get(0), 0, UserRegistrationResult.Status.CREATED, 1L);
+        assertResult(results.get(1), 1, UserRegistrationResult.Status.CONFLICT, null);
+        assertResult(results.get(2), 2, UserRegistrationResult.Status.CONFLICT, null);
+        assertEquals("Taken@Example.com", results.get(2).getEmail());
+        verify(passwordEncoder, times(1)).encode("password");
+    }
+
+    @Test
+    void registerUsers_ShouldThrowIllegalArgument_WhenTooManyUsers() {
+
+        List<User> users = new ArrayList<>(Collections.nCopies(11, user("test@example.com", "password", "Test User")));
+
+
+        assertThrows(IllegalArgumentException.class, () -> userService.registerUsers(users));
+
+
+        verifyNoInteractions(userRepository, passwordEncoder);
+    }
+
+    private static User user(String email, String password, String name) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword(password);
+        user.setName(name);
+        return user;
+    }
+
+    private static void assertResult(UserRegistrationResult result, int index, UserRegistrationResult.Status status,
+                                     Long id) {
+        assertEquals(index, result.getIndex());
+        assertEquals(status, result.getStatus());
+        assertEquals(id, result.getId());
+    }
+}